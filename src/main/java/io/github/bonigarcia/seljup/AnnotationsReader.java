@@ -16,20 +16,29 @@
  */
 package io.github.bonigarcia.seljup;
 
+import static java.lang.invoke.MethodHandles.dropArguments;
 import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodType.methodType;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.StringTokenizer;
 
 import org.apache.commons.lang3.StringUtils;
 import org.openqa.selenium.Capabilities;
@@ -47,6 +56,16 @@ public class AnnotationsReader {
 
     static final Logger log = getLogger(lookup().lookupClass());
 
+    // Fields of each test class (and its parents) annotated with the
+    // annotations of Selenium-Jupiter, indexed by annotation type, built once
+    // per class
+    static final ClassValue<FieldIndex> FIELD_INDEX = new ClassValue<>() {
+        @Override
+        protected FieldIndex computeValue(Class<?> type) {
+            return new FieldIndex(type);
+        }
+    };
+
     public Optional<Capabilities> getCapabilities(Parameter parameter,
             Optional<Object> testInstance) {
         Optional<Capabilities> out = empty();
@@ -58,13 +77,10 @@ public class AnnotationsReader {
             if (driverCapabilities != null) {
                 // Search first DriverCapabilities annotation in parameter
                 capabilities = new DesiredCapabilities();
-                for (String capability : driverCapabilities.value()) {
-                    Optional<List<Object>> keyValue = getKeyValue(capability);
-                    if (keyValue.isPresent()) {
-                        ((DesiredCapabilities) capabilities).setCapability(
-                                keyValue.get().get(0).toString(),
-                                keyValue.get().get(1));
-                    }
+                for (KeyValue keyValue : KeyValue
+                        .parse(driverCapabilities.value())) {
+                    ((DesiredCapabilities) capabilities).setCapability(
+                            keyValue.getKey(), keyValue.getValue());
                 }
                 out = of(capabilities);
             } else {
@@ -146,6 +162,7 @@ public class AnnotationsReader {
         return seekFieldAnnotatedWith(testInstance, annotation, null);
     }
 
+    @SuppressWarnings("unchecked")
     private static <T> Optional<T> seekFieldAnnotatedWith(
             Optional<Object> testInstance,
             Class<? extends Annotation> annotation, Class<T> annotatedType) {
@@ -153,48 +170,98 @@ public class AnnotationsReader {
         try {
             if (testInstance.isPresent()) {
                 Object object = testInstance.get();
-                Class<? extends Object> clazz = object.getClass();
-                out = getField(annotation, annotatedType, clazz, object);
-                if (!out.isPresent()) {
-                    // If annotation not present in class, look for it in the
-                    // parent(s)
-                    Class<?> superclass;
-                    while ((superclass = clazz
-                            .getSuperclass()) != Object.class) {
-                        Optional<T> field = getField(annotation, annotatedType,
-                                superclass, object);
-                        out = field;
-                        if (out.isPresent()) {
-                            break;
-                        }
-                        clazz = clazz.getSuperclass();
+                List<AnnotatedField> annotatedFields = FIELD_INDEX
+                        .get(object.getClass()).get(annotation);
+
+                // The first field of a class matching the type is used. If
+                // its value is null, the search continues in the parent(s)
+                int skippedLevel = -1;
+                for (AnnotatedField annotatedField : annotatedFields) {
+                    if (annotatedField.level == skippedLevel
+                            || (annotatedType != null && !annotatedType
+                                    .isAssignableFrom(annotatedField.type))) {
+                        continue;
                     }
+                    Object value = annotatedField.getter.invoke(object);
+                    if (value != null) {
+                        out = of(annotatedType != null
+                                ? annotatedType.cast(value)
+                                : (T) value);
+                        break;
+                    }
+                    skippedLevel = annotatedField.level;
                 }
             }
-        } catch (Exception e) {
+        } catch (Throwable e) {
             log.warn("Exception seeking field in {} annotated with {}",
                     annotatedType, annotation, e);
         }
         return out;
     }
 
-    @SuppressWarnings("unchecked")
-    private static <T> Optional<T> getField(
-            Class<? extends Annotation> annotation, Class<T> annotatedType,
-            Class<? extends Object> clazz, Object object)
-            throws IllegalAccessException {
-        Field[] declaredFields = clazz.getDeclaredFields();
-        for (Field field : declaredFields) {
-            if (field.isAnnotationPresent(annotation) && (annotatedType == null
-                    || annotatedType.isAssignableFrom(field.getType()))) {
-                field.setAccessible(true);
-                if (annotatedType != null) {
-                    return ofNullable(annotatedType.cast(field.get(object)));
+    static class FieldIndex {
+        Map<Class<? extends Annotation>, List<AnnotatedField>> fields;
+
+        FieldIndex(Class<?> testClass) {
+            fields = new HashMap<>();
+            int level = 0;
+            for (Class<?> clazz = testClass; clazz != null
+                    && clazz != Object.class; clazz = clazz.getSuperclass()) {
+                for (Field field : clazz.getDeclaredFields()) {
+                    // The fields of other extensions (e.g., @TempDir or
+                    // @Mock) are not made accessible
+                    List<Annotation> annotations = Arrays
+                            .stream(field.getDeclaredAnnotations())
+                            .filter(FieldIndex::isSeleniumJupiter).toList();
+                    if (!annotations.isEmpty()) {
+                        add(level, field, annotations);
+                    }
+                }
+                level++;
+            }
+        }
+
+        List<AnnotatedField> get(Class<? extends Annotation> annotation) {
+            return fields.getOrDefault(annotation, emptyList());
+        }
+
+        static boolean isSeleniumJupiter(Annotation annotation) {
+            return annotation.annotationType().getPackageName()
+                    .equals(AnnotationsReader.class.getPackageName());
+        }
+
+        private void add(int level, Field field,
+                List<Annotation> annotations) {
+            try {
+                AnnotatedField annotatedField = new AnnotatedField(level,
+                        field);
+                for (Annotation annotation : annotations) {
+                    fields.computeIfAbsent(annotation.annotationType(),
+                            key -> new ArrayList<>()).add(annotatedField);
                 }
-                return (Optional<T>) ofNullable(field.get(object));
+            } catch (Exception e) {
+                log.warn("Exception reading field {} of {}", field.getName(),
+                        field.getDeclaringClass(), e);
             }
         }
-        return empty();
+    }
+
+    static class AnnotatedField {
+        int level;
+        Class<?> type;
+        MethodHandle getter;
+
+        AnnotatedField(int level, Field field) throws IllegalAccessException {
+            this.level = level;
+            this.type = field.getType();
+            field.setAccessible(true);
+            MethodHandle fieldGetter = lookup().unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                fieldGetter = dropArguments(fieldGetter, 0, Object.class);
+            }
+            this.getter = fieldGetter
+                    .asType(methodType(Object.class, Object.class));
+        }
     }
 
     public boolean getOpera(Parameter parameter) {
@@ -215,6 +282,22 @@ public class AnnotationsReader {
         return out;
     }
 
+    public List<DockerBrowser> getDockerBrowsers(Class<?> testClass) {
+        List<DockerBrowser> dockerBrowsers = new ArrayList<>();
+        for (Class<?> type = testClass; type != null
+                && type != Object.class; type = type.getSuperclass()) {
+            List<Executable> executables = new ArrayList<>();
+            executables.addAll(asList(type.getDeclaredConstructors()));
+            executables.addAll(asList(type.getDeclaredMethods()));
+            for (Executable executable : executables) {
+                for (Parameter parameter : executable.getParameters()) {
+                    getDocker(parameter).ifPresent(dockerBrowsers::add);
+                }
+            }
+        }
+        return dockerBrowsers;
+    }
+
     public Optional<Watch> getWatch(Parameter parameter) {
         Optional<Watch> out = empty();
         Watch watch = parameter.getAnnotation(Watch.class);
@@ -224,21 +307,18 @@ public class AnnotationsReader {
         return out;
     }
 
+    public Optional<CollectPerformance> getCollectPerformance(
+            Parameter parameter) {
+        return ofNullable(parameter.getAnnotation(CollectPerformance.class));
+    }
+
+    public Optional<NetworkProfile> getNetworkProfile(Parameter parameter) {
+        return ofNullable(parameter.getAnnotation(NetworkProfile.class));
+    }
+
     public Optional<List<Object>> getKeyValue(String keyValue) {
-        StringTokenizer st = new StringTokenizer(keyValue, "=");
-        if (st.countTokens() != 2) {
-            log.warn("Invalid format in {} (expected key=value)", keyValue);
-            return empty();
-        }
-        String key = st.nextToken();
-        String value = st.nextToken();
-        Object returnedValue = value;
-        if (isBoolean(value)) {
-            returnedValue = Boolean.valueOf(value);
-        } else if (isNumeric(value)) {
-            returnedValue = Integer.valueOf(value);
-        }
-        return of(asList(key, returnedValue));
+        return KeyValue.parse(keyValue)
+                .map(entry -> asList(entry.getKey(), entry.getValue()));
     }
 
 }
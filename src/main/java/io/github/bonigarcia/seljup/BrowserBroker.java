@@ -0,0 +1,412 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup;
+
+import static io.github.bonigarcia.seljup.BrowsersTemplate.IN_DOCKER;
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Locale.ROOT;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.service.DriverService;
+import org.slf4j.Logger;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import io.github.bonigarcia.seljup.DockerBrowserPool.Container;
+import io.github.bonigarcia.seljup.config.Config;
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+/**
+ * Standalone broker of warm browsers shared by several test JVMs (e.g., the
+ * forks of Maven Surefire, IDE reruns, or different modules). The broker keeps
+ * a pool of started browser endpoints, i.e., browser containers (for Docker
+ * browsers) or driver services (for local browsers), and leases them through
+ * a local socket. Each client (i.e., {@link BrowserBrokerClient}) creates a
+ * new session in the leased endpoint, and keeps the connection open while the
+ * session is used. When the connection is closed, the endpoint is returned to
+ * the pool (or recycled, when the session crashed).
+ *
+ * @author Boni Garcia
+ * @since 6.4.0
+ */
+public class BrowserBroker implements AutoCloseable {
+
+    static final Logger log = getLogger(lookup().lookupClass());
+
+    static final String BROWSER_FIELD = "browser";
+    static final String VERSION_FIELD = "version";
+    static final String DOCKER_FIELD = "docker";
+    static final String URL_FIELD = "url";
+    static final String ERROR_FIELD = "error";
+    static final String CRASHED_FIELD = "crashed";
+
+    Config config;
+    ServerSocket serverSocket;
+    ExecutorService executor;
+    Thread acceptThread;
+    Map<String, Deque<Endpoint>> idleEndpoints;
+    Map<String, Integer> warmingEndpoints;
+    List<Endpoint> endpoints;
+    volatile boolean closed;
+
+    public BrowserBroker(Config config) {
+        this.config = config;
+        this.executor = Executors.newCachedThreadPool();
+        this.idleEndpoints = new HashMap<>();
+        this.warmingEndpoints = new HashMap<>();
+        this.endpoints = new ArrayList<>();
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Config config = new Config();
+        if (args.length > 0) {
+            config.setBrokerPort(Integer.parseInt(args[0]));
+        }
+        BrowserBroker browserBroker = new BrowserBroker(config);
+        Runtime.getRuntime().addShutdownHook(new Thread(browserBroker::close));
+        try {
+            browserBroker.start();
+        } catch (IOException e) {
+            throw new SeleniumJupiterException(e);
+        }
+        browserBroker.acceptThread.join();
+    }
+
+    public void start() throws IOException {
+        serverSocket = new ServerSocket(config.getBrokerPort(), 0,
+                InetAddress.getLoopbackAddress());
+        acceptThread = new Thread(this::accept, "seljup-broker");
+        acceptThread.start();
+        log.info("Browser broker listening on port {}", getPort());
+
+        String browsers = config.getBrokerBrowsers();
+        if (browsers != null && !browsers.isEmpty()) {
+            for (String browser : browsers.split(",")) {
+                String type = browser.trim().toLowerCase(ROOT);
+                replenish(BrowsersTemplate.Browser.toBrowserType(type), "",
+                        type.endsWith(IN_DOCKER));
+            }
+        }
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    @Override
+    public void close() {
+        List<Endpoint> toStop;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            toStop = new ArrayList<>(endpoints);
+            endpoints.clear();
+            idleEndpoints.clear();
+        }
+        try {
+            if (serverSocket != null) {
+                serverSocket.close();
+            }
+        } catch (IOException e) {
+            log.trace("Exception closing broker socket ({})", e.getMessage());
+        }
+        executor.shutdownNow();
+        toStop.forEach(Endpoint::stop);
+        log.info("Browser broker stopped");
+    }
+
+    private void accept() {
+        while (!closed) {
+            try {
+                Socket socket = serverSocket.accept();
+                executor.execute(() -> handle(socket));
+            } catch (IOException e) {
+                if (!closed) {
+                    log.warn("Exception accepting broker connection", e);
+                }
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        Endpoint endpoint = null;
+        boolean crashed = true;
+        try (Socket client = socket;
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(client.getInputStream(), UTF_8));
+                PrintWriter writer = new PrintWriter(new OutputStreamWriter(
+                        client.getOutputStream(), UTF_8), true)) {
+            JsonObject request = JsonParser.parseString(reader.readLine())
+                    .getAsJsonObject();
+            BrowserType browserType = BrowserType.valueOf(request
+                    .get(BROWSER_FIELD).getAsString().toUpperCase(ROOT));
+            String version = request.has(VERSION_FIELD)
+                    ? request.get(VERSION_FIELD).getAsString()
+                    : "";
+            boolean docker = request.has(DOCKER_FIELD)
+                    && request.get(DOCKER_FIELD).getAsBoolean();
+
+            JsonObject response = new JsonObject();
+            try {
+                endpoint = lease(browserType, version, docker);
+                response.addProperty(URL_FIELD, endpoint.url.toString());
+            } catch (Exception e) {
+                log.warn("Exception leasing {}", getKey(browserType, version,
+                        docker), e);
+                response.addProperty(ERROR_FIELD,
+                        String.valueOf(e.getMessage()));
+            }
+            writer.println(response);
+
+            // The lease is kept until the client releases it (or the client
+            // connection is lost, e.g., when the test JVM crashes)
+            String release = endpoint != null ? reader.readLine() : null;
+            if (release != null) {
+                JsonObject releaseObject = JsonParser.parseString(release)
+                        .getAsJsonObject();
+                crashed = releaseObject.has(CRASHED_FIELD)
+                        && releaseObject.get(CRASHED_FIELD).getAsBoolean();
+            }
+        } catch (Exception e) {
+            log.debug("Exception in broker connection ({})", e.getMessage());
+        } finally {
+            if (endpoint != null) {
+                release(endpoint, crashed);
+            }
+        }
+    }
+
+    private Endpoint lease(BrowserType browserType, String version,
+            boolean docker) {
+        String key = getKey(browserType, version, docker);
+        Endpoint endpoint;
+        while ((endpoint = pollIdle(key)) != null) {
+            if (endpoint.isHealthy()) {
+                break;
+            }
+            log.debug("Endpoint {} is not healthy, recycling it", endpoint);
+            destroy(endpoint);
+        }
+        if (endpoint == null) {
+            endpoint = startEndpoint(browserType, version, docker);
+        }
+        synchronized (this) {
+            endpoint.sessions++;
+        }
+        log.debug("Endpoint {} of {} leased (session {})", endpoint, key,
+                endpoint.sessions);
+        replenish(browserType, version, docker);
+        return endpoint;
+    }
+
+    private void release(Endpoint endpoint, boolean crashed) {
+        synchronized (this) {
+            if (!closed && !crashed
+                    && endpoint.sessions < config.getBrokerMaxSessions()) {
+                idleEndpoints
+                        .computeIfAbsent(endpoint.key,
+                                k -> new ArrayDeque<>())
+                        .addLast(endpoint);
+                return;
+            }
+        }
+        log.debug("Recycling endpoint {} after {} sessions", endpoint,
+                endpoint.sessions);
+        destroy(endpoint);
+    }
+
+    private void replenish(BrowserType browserType, String version,
+            boolean docker) {
+        // Keep the configured number of idle endpoints per browser
+        String key = getKey(browserType, version, docker);
+        int missing;
+        synchronized (this) {
+            Deque<Endpoint> idle = idleEndpoints.get(key);
+            int warming = warmingEndpoints.getOrDefault(key, 0);
+            missing = config.getBrokerPoolSize()
+                    - (idle != null ? idle.size() : 0) - warming;
+            if (closed || missing <= 0) {
+                return;
+            }
+            warmingEndpoints.put(key, warming + missing);
+        }
+        for (int i = 0; i < missing; i++) {
+            executor.execute(() -> {
+                try {
+                    Endpoint endpoint = startEndpoint(browserType, version,
+                            docker);
+                    release(endpoint, false);
+                } catch (Exception e) {
+                    log.warn("Exception warming up {}", key, e);
+                } finally {
+                    synchronized (this) {
+                        warmingEndpoints.merge(key, -1, Integer::sum);
+                    }
+                }
+            });
+        }
+    }
+
+    private synchronized Endpoint pollIdle(String key) {
+        Deque<Endpoint> idle = idleEndpoints.get(key);
+        return idle != null ? idle.pollFirst() : null;
+    }
+
+    private Endpoint startEndpoint(BrowserType browserType, String version,
+            boolean docker) {
+        String key = getKey(browserType, version, docker);
+        long start = System.currentTimeMillis();
+        WebDriverManager wdm = WebDriverManager
+                .getInstance(browserType.toBrowserName())
+                .browserVersion(version);
+        Endpoint endpoint;
+        if (docker) {
+            // Same as the reused Docker browsers, the first session keeps
+            // the container alive
+            WebDriver anchor = DockerBrowserPool
+                    .withSessionSlots(wdm.browserInDocker()).create();
+            endpoint = new Endpoint(key, new Container(key, wdm, anchor,
+                    wdm.getDockerSeleniumServerUrl(anchor)));
+        } else {
+            DriverService service = createDriverService(browserType, wdm);
+            try {
+                service.start();
+            } catch (IOException e) {
+                throw new SeleniumJupiterException(
+                        "Exception starting driver service of " + key, e);
+            }
+            endpoint = new Endpoint(key, service);
+        }
+        synchronized (this) {
+            endpoints.add(endpoint);
+        }
+        log.debug("Endpoint {} of {} started in {} ms", endpoint, key,
+                System.currentTimeMillis() - start);
+        return endpoint;
+    }
+
+    private void destroy(Endpoint endpoint) {
+        synchronized (this) {
+            endpoints.remove(endpoint);
+        }
+        endpoint.stop();
+    }
+
+    private DriverService createDriverService(BrowserType browserType,
+            WebDriverManager wdm) {
+        DriverService.Builder<?, ?> builder;
+        switch (browserType) {
+        case FIREFOX:
+            builder = new GeckoDriverService.Builder();
+            break;
+        case EDGE:
+            builder = new EdgeDriverService.Builder();
+            break;
+        case CHROME:
+        case CHROMIUM:
+            builder = new ChromeDriverService.Builder();
+            break;
+        default:
+            throw new SeleniumJupiterException(
+                    "Browser " + browserType + " not supported by the broker");
+        }
+
+        // The driver path is passed to the service (instead of exported as
+        // a JVM-wide system property, shared by all the brokered browsers)
+        wdm.avoidExport().setup();
+        return builder
+                .usingDriverExecutable(new File(wdm.getDownloadedDriverPath()))
+                .build();
+    }
+
+    static String getKey(BrowserType browserType, String version,
+            boolean docker) {
+        String key = browserType.name().toLowerCase(ROOT)
+                + (docker ? IN_DOCKER : "");
+        return version.isEmpty() ? key : key + ":" + version;
+    }
+
+    static class Endpoint {
+        String key;
+        URL url;
+        Container container;
+        DriverService service;
+        int sessions;
+
+        Endpoint(String key, Container container) {
+            this.key = key;
+            this.container = container;
+            this.url = container.url;
+        }
+
+        Endpoint(String key, DriverService service) {
+            this.key = key;
+            this.service = service;
+            this.url = service.getUrl();
+        }
+
+        boolean isHealthy() {
+            return container != null ? container.isHealthy()
+                    : service.isRunning();
+        }
+
+        void stop() {
+            try {
+                if (container != null) {
+                    container.wdm.quit();
+                } else {
+                    service.stop();
+                }
+            } catch (Exception e) {
+                log.warn("Exception stopping endpoint {}", this, e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return url.toString();
+        }
+    }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup;
+
+import static io.github.bonigarcia.seljup.BrowserBroker.BROWSER_FIELD;
+import static io.github.bonigarcia.seljup.BrowserBroker.CRASHED_FIELD;
+import static io.github.bonigarcia.seljup.BrowserBroker.DOCKER_FIELD;
+import static io.github.bonigarcia.seljup.BrowserBroker.ERROR_FIELD;
+import static io.github.bonigarcia.seljup.BrowserBroker.URL_FIELD;
+import static io.github.bonigarcia.seljup.BrowserBroker.VERSION_FIELD;
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.slf4j.Logger;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import io.github.bonigarcia.seljup.config.Config;
+
+/**
+ * Client of the {@link BrowserBroker}. Each lease opens a connection to the
+ * broker, gets the URL of a warm browser endpoint, and creates a new session
+ * in it. The connection is kept open until the lease is closed. When the
+ * broker is not available, no browser is leased (and the browser is started
+ * as usual by Selenium-Jupiter).
+ *
+ * @author Boni Garcia
+ * @since 6.4.0
+ */
+public class BrowserBrokerClient {
+
+    final Logger log = getLogger(lookup().lookupClass());
+
+    static final int CONNECT_TIMEOUT_MS = 1000;
+
+    Config config;
+
+    public BrowserBrokerClient(Config config) {
+        this.config = config;
+    }
+
+    public Optional<Lease> lease(BrowserType browserType, String version,
+            boolean docker, Capabilities capabilities) {
+        Socket socket = new Socket();
+        try {
+            socket.connect(
+                    new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                            config.getBrokerPort()),
+                    CONNECT_TIMEOUT_MS);
+        } catch (IOException e) {
+            log.debug("Browser broker not available in port {} ({})",
+                    config.getBrokerPort(), e.getMessage());
+            close(socket);
+            return Optional.empty();
+        }
+
+        try {
+            socket.setSoTimeout((int) TimeUnit.SECONDS
+                    .toMillis(config.getBrokerTimeoutSec()));
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), UTF_8));
+            PrintWriter writer = new PrintWriter(
+                    new OutputStreamWriter(socket.getOutputStream(), UTF_8),
+                    true);
+            JsonObject request = new JsonObject();
+            request.addProperty(BROWSER_FIELD, browserType.name());
+            request.addProperty(VERSION_FIELD,
+                    version != null ? version : "");
+            request.addProperty(DOCKER_FIELD, docker);
+            writer.println(request);
+
+            String line = reader.readLine();
+            JsonObject response = line != null
+                    ? JsonParser.parseString(line).getAsJsonObject()
+                    : new JsonObject();
+            if (!response.has(URL_FIELD)) {
+                log.warn("Browser broker cannot lease {} ({})", browserType,
+                        response.has(ERROR_FIELD)
+                                ? response.get(ERROR_FIELD).getAsString()
+                                : "connection closed");
+                close(socket);
+                return Optional.empty();
+            }
+
+            // Once leased, the session lasts as long as the test
+            socket.setSoTimeout(0);
+            URL url = new URL(response.get(URL_FIELD).getAsString());
+            WebDriver driver;
+            try {
+                driver = new RemoteWebDriver(url, capabilities);
+            } catch (Exception e) {
+                log.warn("Exception creating session in {} leased by broker",
+                        url, e);
+                writer.println(getRelease(true));
+                close(socket);
+                return Optional.empty();
+            }
+            log.debug("Session {} leased by browser broker in {}", driver, url);
+            return Optional.of(new Lease(socket, writer, driver));
+
+        } catch (IOException e) {
+            log.warn("Exception leasing {} from browser broker", browserType,
+                    e);
+            close(socket);
+            return Optional.empty();
+        }
+    }
+
+    private static JsonObject getRelease(boolean crashed) {
+        JsonObject release = new JsonObject();
+        release.addProperty(CRASHED_FIELD, crashed);
+        return release;
+    }
+
+    private void close(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            log.trace("Exception closing broker connection ({})",
+                    e.getMessage());
+        }
+    }
+
+    public class Lease implements AutoCloseable {
+
+        Socket socket;
+        PrintWriter writer;
+        WebDriver driver;
+
+        Lease(Socket socket, PrintWriter writer, WebDriver driver) {
+            this.socket = socket;
+            this.writer = writer;
+            this.driver = driver;
+        }
+
+        public WebDriver getDriver() {
+            return driver;
+        }
+
+        @Override
+        public void close() {
+            boolean crashed = false;
+            try {
+                driver.quit();
+            } catch (Exception e) {
+                log.debug("Exception quitting session leased by broker", e);
+                crashed = true;
+            }
+            writer.println(getRelease(crashed));
+            BrowserBrokerClient.this.close(socket);
+        }
+
+    }
+
+}
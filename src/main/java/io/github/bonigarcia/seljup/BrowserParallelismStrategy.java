@@ -0,0 +1,187 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigurationStrategy;
+import org.slf4j.Logger;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import io.github.bonigarcia.seljup.config.Config;
+
+/**
+ * Strategy for the JUnit parallel execution that computes the parallelism from
+ * the browsers that can run at the same time, i.e., the slots of the remote
+ * Selenium Grid (when sel.jup.selenium.server.url is set and the Grid status
+ * is available), or otherwise the available memory divided by the memory
+ * footprint of each browser. The configuration keys can be set as JUnit
+ * configuration parameters (e.g., in junit-platform.properties) or as usual in
+ * Selenium-Jupiter.
+ *
+ * @author Boni Garcia
+ * @since 6.4.0
+ */
+public class BrowserParallelismStrategy
+        implements ParallelExecutionConfigurationStrategy {
+
+    final Logger log = getLogger(lookup().lookupClass());
+
+    static final String BROWSER_MEMORY_MB_KEY = "sel.jup.parallelism.browser.memory.mb";
+    static final String MAX_PARALLELISM_KEY = "sel.jup.parallelism.max";
+    static final String SELENIUM_SERVER_URL_KEY = "sel.jup.selenium.server.url";
+    static final int STATUS_TIMEOUT_MS = 5000;
+    static final int KEEP_ALIVE_SECONDS = 30;
+
+    @Override
+    public ParallelExecutionConfiguration createConfiguration(
+            ConfigurationParameters configurationParameters) {
+        Config config = new Config();
+        int browserMemoryMb = configurationParameters
+                .get(BROWSER_MEMORY_MB_KEY, Integer::valueOf)
+                .orElseGet(config::getParallelismBrowserMemoryMb);
+        int maxParallelism = configurationParameters
+                .get(MAX_PARALLELISM_KEY, Integer::valueOf)
+                .orElseGet(config::getParallelismMax);
+        String seleniumServerUrl = configurationParameters
+                .get(SELENIUM_SERVER_URL_KEY)
+                .orElseGet(config::getSeleniumServerUrl);
+
+        Optional<Integer> gridSlots = seleniumServerUrl != null
+                && !seleniumServerUrl.isEmpty()
+                        ? getGridSlots(seleniumServerUrl)
+                        : Optional.empty();
+        int parallelism;
+        String reason;
+        if (gridSlots.isPresent()) {
+            parallelism = gridSlots.get();
+            reason = parallelism + " Grid slots";
+        } else {
+            // Read once, since the available memory changes between reads
+            long availableMb = SystemMemory.getAvailableMb();
+            parallelism = getLocalParallelism(availableMb, browserMemoryMb);
+            reason = availableMb + " MB available and " + browserMemoryMb
+                    + " MB per browser";
+        }
+        if (maxParallelism > 0) {
+            parallelism = Math.min(parallelism, maxParallelism);
+        }
+        parallelism = Math.max(1, parallelism);
+
+        log.info("Parallelism for browser tests: {} ({})", parallelism,
+                reason);
+        return new BrowserParallelism(parallelism);
+    }
+
+    int getLocalParallelism(long availableMb, int browserMemoryMb) {
+        return (int) (availableMb / Math.max(1, browserMemoryMb));
+    }
+
+    Optional<Integer> getGridSlots(String seleniumServerUrl) {
+        try {
+            URL statusUrl = new URL(
+                    seleniumServerUrl.replaceAll("/$", "") + "/status");
+            URLConnection connection = statusUrl.openConnection();
+            connection.setConnectTimeout(STATUS_TIMEOUT_MS);
+            connection.setReadTimeout(STATUS_TIMEOUT_MS);
+            try (Reader reader = new InputStreamReader(
+                    connection.getInputStream(), UTF_8)) {
+                JsonObject value = JsonParser.parseReader(reader)
+                        .getAsJsonObject().getAsJsonObject("value");
+                JsonArray nodes = value != null
+                        ? value.getAsJsonArray("nodes")
+                        : null;
+                if (nodes == null) {
+                    return Optional.empty();
+                }
+                int slots = 0;
+                for (JsonElement node : nodes) {
+                    JsonObject nodeObject = node.getAsJsonObject();
+                    JsonElement availability = nodeObject.get("availability");
+                    JsonArray nodeSlots = nodeObject.getAsJsonArray("slots");
+                    if (nodeSlots != null && (availability == null
+                            || availability.getAsString().equals("UP"))) {
+                        slots += nodeSlots.size();
+                    }
+                }
+                return slots > 0 ? Optional.of(slots) : Optional.empty();
+            }
+        } catch (Exception e) {
+            log.debug("Exception reading the status of {} ({})",
+                    seleniumServerUrl, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    static class BrowserParallelism implements ParallelExecutionConfiguration {
+
+        int parallelism;
+
+        BrowserParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        @Override
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        @Override
+        public int getMinimumRunnable() {
+            return parallelism;
+        }
+
+        @Override
+        public int getMaxPoolSize() {
+            // No compensating threads, since each thread may start a browser
+            return parallelism;
+        }
+
+        @Override
+        public int getCorePoolSize() {
+            return parallelism;
+        }
+
+        @Override
+        public int getKeepAliveSeconds() {
+            return KEEP_ALIVE_SECONDS;
+        }
+
+        @Override
+        public Predicate<? super ForkJoinPool> getSaturatePredicate() {
+            return pool -> true;
+        }
+
+    }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Locale.ROOT;
+import static org.junit.jupiter.api.parallel.ResourceAccessMode.READ;
+import static org.junit.jupiter.api.parallel.ResourceAccessMode.READ_WRITE;
+import static org.junit.platform.commons.util.AnnotationUtils.findAnnotation;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.parallel.ResourceLocksProvider.Lock;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+
+import io.github.bonigarcia.seljup.config.Config;
+
+/**
+ * JUnit resource locks of the browsers declared as test parameters. Each
+ * browser backend (i.e., local browser type, Docker, remote endpoint, or
+ * browser template) is a resource. With a capacity N, each resource is split
+ * in N slots: a test locks one of them (so at most N tests use a backend at
+ * the same time), and browser lists lock all of them. The slots are assigned
+ * round-robin when the locks are computed, so the capacity is approximate: a
+ * test can wait for its slot while other slots of the same backend are free.
+ * Without capacity, the tests share the resource (read lock), and browser
+ * lists lock it exclusively.
+ *
+ * @author Boni Garcia
+ * @since 6.4.0
+ */
+public class BrowserResourceLocks {
+
+    final Logger log = getLogger(lookup().lookupClass());
+
+    static final String LOCK_PREFIX = "io.github.bonigarcia.seljup.";
+    static final String DOCKER_RESOURCE = "docker";
+    static final String TEMPLATE_RESOURCE = "template";
+    static final String REMOTE_RESOURCE = "remote:";
+    static final String LOCAL_RESOURCE = "local:";
+
+    // Shared by all the instances, since JUnit can instantiate a provider
+    // for each test class
+    static final Map<String, Integer> ASSIGNED_SLOTS = new HashMap<>();
+    static final Map<String, Integer> NEXT_SLOTS = new HashMap<>();
+
+    Config config;
+
+    public BrowserResourceLocks(Config config) {
+        this.config = config;
+    }
+
+    public Set<Lock> getLocks(Class<?> testClass,
+            List<? extends Executable> executables) {
+        Set<Lock> locks = new LinkedHashSet<>();
+        int capacity = config.getResourceLocksCapacity();
+        for (Executable executable : executables) {
+            String lockId = testClass.getName() + "#" + executable.getName();
+            for (Parameter parameter : executable.getParameters()) {
+                getResource(testClass, parameter).ifPresent(
+                        resource -> addLocks(locks, resource, lockId,
+                                isBrowserList(parameter), capacity));
+            }
+        }
+        log.trace("Resource locks of {} {}: {}", testClass.getSimpleName(),
+                executables, locks);
+        return locks;
+    }
+
+    public List<Executable> getClassExecutables(Class<?> testClass) {
+        // The browsers of the constructor (and of all the tests in single
+        // session) are kept during the whole test class
+        List<Executable> executables = new ArrayList<>(
+                List.of(testClass.getDeclaredConstructors()));
+        if (isSingleSession(testClass)) {
+            executables.addAll(List.of(testClass.getDeclaredMethods()));
+        }
+        return executables;
+    }
+
+    private void addLocks(Set<Lock> locks, String resource, String lockId,
+            boolean browserList, int capacity) {
+        String key = LOCK_PREFIX + resource;
+        if (capacity <= 0) {
+            locks.add(new Lock(key, browserList ? READ_WRITE : READ));
+        } else if (browserList) {
+            for (int slot = 0; slot < capacity; slot++) {
+                locks.add(new Lock(key + "#" + slot, READ_WRITE));
+            }
+        } else {
+            int slot = getSlot(key, lockId, capacity);
+            locks.add(new Lock(key + "#" + slot, READ_WRITE));
+        }
+    }
+
+    private static synchronized int getSlot(String key, String lockId,
+            int capacity) {
+        // The same test keeps its slot when its locks are computed again
+        int slot = ASSIGNED_SLOTS.computeIfAbsent(key + "@" + lockId, k -> {
+            int nextSlot = NEXT_SLOTS.getOrDefault(key, 0);
+            NEXT_SLOTS.put(key, nextSlot + 1);
+            return nextSlot;
+        });
+        return slot % capacity;
+    }
+
+    private Optional<String> getResource(Class<?> testClass,
+            Parameter parameter) {
+        Class<?> type = parameter.getType();
+        if (!WebDriver.class.isAssignableFrom(type)
+                && !isBrowserList(parameter)) {
+            return Optional.empty();
+        }
+
+        // Same precedence than the browser resolution of the extension
+        if (parameter.isAnnotationPresent(DockerBrowser.class)) {
+            return Optional.of(DOCKER_RESOURCE);
+        }
+        Optional<String> url = getRemoteUrl(testClass, parameter);
+        if (url.isPresent()) {
+            return Optional.of(REMOTE_RESOURCE + url.get());
+        }
+        if (type == WebDriver.class) {
+            return Optional.of(TEMPLATE_RESOURCE);
+        }
+        return Optional.of(LOCAL_RESOURCE
+                + type.getSimpleName().replace("Driver", "").toLowerCase(ROOT));
+    }
+
+    private Optional<String> getRemoteUrl(Class<?> testClass,
+            Parameter parameter) {
+        String seleniumServerUrl = config.getSeleniumServerUrl();
+        if (seleniumServerUrl != null && !seleniumServerUrl.isEmpty()) {
+            return Optional.of(seleniumServerUrl);
+        }
+        DriverUrl driverUrl = parameter.getAnnotation(DriverUrl.class);
+        if (driverUrl != null) {
+            return Optional.of(driverUrl.value());
+        }
+        for (Class<?> type = testClass; type != null
+                && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (field.isAnnotationPresent(DriverUrl.class)) {
+                    return Optional.of(getFieldValue(field));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private String getFieldValue(Field field) {
+        // Instance fields are not available when the locks are computed, so
+        // the field itself identifies the endpoint in that case
+        try {
+            if (Modifier.isStatic(field.getModifiers())) {
+                field.setAccessible(true);
+                Object value = field.get(null);
+                if (value != null) {
+                    return value.toString();
+                }
+            }
+        } catch (Exception e) {
+            log.trace("Exception reading field {} ({})", field,
+                    e.getMessage());
+        }
+        return field.getDeclaringClass().getName() + "." + field.getName();
+    }
+
+    private boolean isBrowserList(Parameter parameter) {
+        DockerBrowser dockerBrowser = parameter
+                .getAnnotation(DockerBrowser.class);
+        return List.class.isAssignableFrom(parameter.getType())
+                && dockerBrowser != null && dockerBrowser.size() > 0;
+    }
+
+    private boolean isSingleSession(Class<?> testClass) {
+        return findAnnotation(testClass, SingleSession.class).isPresent();
+    }
+
+}
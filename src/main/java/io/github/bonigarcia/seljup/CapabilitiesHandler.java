@@ -256,23 +256,9 @@ public class CapabilitiesHandler {
     private Capabilities addPreferences(Capabilities options,
             String[] preferences, Method addPreferenceMethod)
             throws IllegalAccessException, InvocationTargetException {
-        for (String preference : preferences) {
-            Optional<List<Object>> keyValue = annotationsReader
-                    .getKeyValue(preference);
-            if (!keyValue.isPresent()) {
-                continue;
-            }
-            String name = keyValue.get().get(0).toString();
-            String value = keyValue.get().get(1).toString();
-            if (annotationsReader.isBoolean(value)) {
-                addPreferenceMethod.invoke(options, name,
-                        Boolean.valueOf(value));
-            } else if (annotationsReader.isNumeric(value)) {
-                addPreferenceMethod.invoke(options, name,
-                        Integer.parseInt(value));
-            } else {
-                addPreferenceMethod.invoke(options, name, value);
-            }
+        for (KeyValue keyValue : KeyValue.parse(preferences)) {
+            addPreferenceMethod.invoke(options, keyValue.getKey(),
+                    keyValue.getValue());
         }
         return options;
     }
@@ -0,0 +1,47 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup;
+
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation for collecting page performance metrics (using the DevTools
+ * Performance domain and the navigation timing) in Chromium-based browsers.
+ * The negative values of the thresholds mean no threshold.
+ *
+ * @author Boni Garcia
+ * @since 6.4.0
+ */
+@Retention(RUNTIME)
+@Target(PARAMETER)
+public @interface CollectPerformance {
+
+    public long maxLayoutCount() default -1;
+
+    public long maxScriptDurationMs() default -1;
+
+    public long maxJsHeapUsedMb() default -1;
+
+    public long maxDomContentLoadedMs() default -1;
+
+    public long maxLoadTimeMs() default -1;
+
+}
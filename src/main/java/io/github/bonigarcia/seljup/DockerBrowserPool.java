@@ -0,0 +1,222 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.slf4j.Logger;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+/**
+ * Pool of browser containers reused across tests (and test classes). Each
+ * lease creates a new session in the container (so tests are isolated), and
+ * the containers are health-checked before each lease and recycled after a
+ * number of sessions or when a session crashes.
+ *
+ * @author Boni Garcia
+ * @since 6.4.0
+ */
+public class DockerBrowserPool implements AutoCloseable {
+
+    final Logger log = getLogger(lookup().lookupClass());
+
+    static final int MAX_LEASE_ATTEMPTS = 2;
+    static final int CONTAINER_MAX_SESSIONS = 2;
+
+    int maxSessions;
+    Map<String, Deque<Container>> idleContainers;
+    Map<WebDriver, Container> leasedDrivers;
+    List<Container> containers;
+    boolean closed;
+
+    public DockerBrowserPool(int maxSessions) {
+        this.maxSessions = maxSessions;
+        this.idleContainers = new HashMap<>();
+        this.leasedDrivers = new HashMap<>();
+        this.containers = new ArrayList<>();
+    }
+
+    public WebDriver lease(String key, Supplier<WebDriverManager> wdmSupplier,
+            Capabilities capabilities) {
+        Exception lastException = null;
+        for (int attempt = 1; attempt <= MAX_LEASE_ATTEMPTS; attempt++) {
+            Container container = pollIdle(key);
+            if (container == null) {
+                container = start(key, wdmSupplier);
+            } else if (!container.isHealthy()) {
+                log.debug("Container {} is not healthy, recycling it",
+                        container);
+                destroy(container);
+                continue;
+            }
+            try {
+                WebDriver driver = new RemoteWebDriver(container.url,
+                        capabilities);
+                synchronized (this) {
+                    container.sessions++;
+                    leasedDrivers.put(driver, container);
+                }
+                log.trace("Session {} of container {} leased",
+                        container.sessions, container);
+                return driver;
+            } catch (Exception e) {
+                lastException = e;
+                log.debug("Exception creating session in {}, recycling it",
+                        container, e);
+                destroy(container);
+            }
+        }
+        throw new SeleniumJupiterException(
+                "Exception creating browser session in Docker", lastException);
+    }
+
+    public synchronized boolean isLeased(WebDriver driver) {
+        return leasedDrivers.containsKey(driver);
+    }
+
+    public void release(WebDriver driver) {
+        Container container;
+        synchronized (this) {
+            container = leasedDrivers.remove(driver);
+        }
+        if (container == null) {
+            return;
+        }
+        boolean crashed = false;
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            log.debug("Exception quitting session in {}", container, e);
+            crashed = true;
+        }
+        synchronized (this) {
+            if (!closed && !crashed && container.sessions < maxSessions) {
+                idleContainers
+                        .computeIfAbsent(container.key,
+                                k -> new ArrayDeque<>())
+                        .addLast(container);
+                return;
+            }
+        }
+        log.debug("Recycling container {} after {} sessions", container,
+                container.sessions);
+        destroy(container);
+    }
+
+    @Override
+    public void close() {
+        List<Container> toDestroy;
+        synchronized (this) {
+            closed = true;
+            toDestroy = new ArrayList<>(containers);
+            idleContainers.clear();
+            leasedDrivers.clear();
+        }
+        toDestroy.forEach(this::destroy);
+    }
+
+    private synchronized Container pollIdle(String key) {
+        Deque<Container> idle = idleContainers.get(key);
+        return idle != null ? idle.pollFirst() : null;
+    }
+
+    private Container start(String key,
+            Supplier<WebDriverManager> wdmSupplier) {
+        // The first session keeps the container alive (quitting it through
+        // WebDriverManager stops the container), so it is not handed out
+        WebDriverManager wdm = withSessionSlots(wdmSupplier.get());
+        WebDriver anchor = wdm.create();
+        Container container = new Container(key, wdm, anchor,
+                wdm.getDockerSeleniumServerUrl(anchor));
+        synchronized (this) {
+            containers.add(container);
+        }
+        log.debug("Started container {} for {}", container, key);
+        return container;
+    }
+
+    static WebDriverManager withSessionSlots(WebDriverManager wdm) {
+        // Selenium nodes allow a single session by default, which is taken
+        // by the anchor, so the containers must allow one more session
+        List<String> envVariables = new ArrayList<>(
+                wdm.config().getDockerEnvVariables());
+        envVariables.add("SE_NODE_MAX_SESSIONS=" + CONTAINER_MAX_SESSIONS);
+        envVariables.add("SE_NODE_OVERRIDE_MAX_SESSIONS=true");
+        return wdm.dockerEnvVariables(envVariables.toArray(new String[0]));
+    }
+
+    private void destroy(Container container) {
+        synchronized (this) {
+            containers.remove(container);
+        }
+        try {
+            container.wdm.quit();
+        } catch (Exception e) {
+            log.warn("Exception stopping container {}", container, e);
+        }
+    }
+
+    static class Container {
+        String key;
+        WebDriverManager wdm;
+        WebDriver anchor;
+        URL url;
+        int sessions;
+
+        Container(String key, WebDriverManager wdm, WebDriver anchor,
+                URL url) {
+            this.key = key;
+            this.wdm = wdm;
+            this.anchor = anchor;
+            this.url = url;
+        }
+
+        boolean isHealthy() {
+            try {
+                String status = url.toString().replaceAll("/$", "")
+                        + "/status";
+                if (!WebDriverManager.isOnline(new URL(status))) {
+                    return false;
+                }
+                anchor.getWindowHandle();
+                return true;
+            } catch (Exception e) {
+                return false;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return url != null ? url.toString() : key;
+        }
+    }
+
+}
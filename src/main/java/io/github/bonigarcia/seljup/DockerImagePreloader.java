@@ -0,0 +1,112 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+/**
+ * Preloader of the Docker images of the browsers used in the tests. Each
+ * browser type and version is started (and stopped) once in a container, in
+ * parallel, so the image is pulled (if required) and warmed before the tests
+ * using it. WebDriverManager resolves the images, so its Docker configuration
+ * (e.g., private registry endpoint, or avoid pulling) also applies here.
+ *
+ * @author Boni Garcia
+ * @since 6.4.0
+ */
+public class DockerImagePreloader {
+
+    final Logger log = getLogger(lookup().lookupClass());
+
+    Executor executor;
+    boolean dockerAvailable;
+    Map<String, CompletableFuture<Void>> preloads;
+
+    public DockerImagePreloader(Executor executor) {
+        this.executor = executor;
+        this.dockerAvailable = WebDriverManager.isDockerAvailable();
+        this.preloads = new ConcurrentHashMap<>();
+        if (!dockerAvailable) {
+            log.debug("Docker is not available, images are not preloaded");
+        }
+    }
+
+    public void preload(BrowserType browserType, String browserVersion) {
+        if (!dockerAvailable) {
+            return;
+        }
+        String version = browserVersion != null ? browserVersion : "";
+        preloads.computeIfAbsent(browserType + ":" + version,
+                key -> CompletableFuture.runAsync(
+                        () -> warmUp(browserType, version), executor));
+    }
+
+    public void await(int timeoutSec) {
+        long deadline = System.nanoTime()
+                + TimeUnit.SECONDS.toNanos(timeoutSec);
+        List<Map.Entry<String, CompletableFuture<Void>>> entries = new ArrayList<>(
+                preloads.entrySet());
+        for (Map.Entry<String, CompletableFuture<Void>> entry : entries) {
+            try {
+                entry.getValue().get(Math.max(0, deadline - System.nanoTime()),
+                        TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                log.warn("Timeout preloading Docker image of {}",
+                        entry.getKey());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                log.warn("Exception preloading Docker image of {}",
+                        entry.getKey(), e.getCause());
+            }
+        }
+    }
+
+    private void warmUp(BrowserType browserType, String browserVersion) {
+        long start = System.currentTimeMillis();
+        WebDriverManager wdm = WebDriverManager
+                .getInstance(browserType.toBrowserName())
+                .browserVersion(browserVersion).browserInDocker();
+        try {
+            wdm.create();
+            log.debug("Docker image of {} {} ready in {} ms", browserType,
+                    browserVersion, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("Exception preloading Docker image of {} {}",
+                    browserType, browserVersion, e);
+        } finally {
+            wdm.quit();
+        }
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+/**
+ * List of browsers in Docker (i.e., {@link DockerBrowser} with size) started
+ * in parallel. The browsers are added to the list as they become ready, and
+ * the list blocks on access to the browsers still starting. The browsers not
+ * ready before the timeout are discarded (i.e., the list shrinks).
+ *
+ * @author Boni Garcia
+ * @since 6.4.0
+ */
+public class ElasticDriverList extends AbstractList<WebDriver>
+        implements AutoCloseable {
+
+    final Logger log = getLogger(lookup().lookupClass());
+
+    int requested;
+    long deadline;
+    List<WebDriver> readyDrivers;
+    int failed;
+    boolean closed;
+
+    public ElasticDriverList(int requested, int timeoutSec) {
+        this.requested = requested;
+        this.deadline = System.nanoTime()
+                + TimeUnit.SECONDS.toNanos(timeoutSec);
+        this.readyDrivers = new ArrayList<>(requested);
+    }
+
+    public void start(Executor executor, int concurrency,
+            Supplier<WebDriverManager> wdmSupplier,
+            Consumer<WebDriverManager> onReady) {
+        AtomicInteger pending = new AtomicInteger(requested);
+        int workers = Math.max(1, Math.min(concurrency, requested));
+        for (int i = 0; i < workers; i++) {
+            executor.execute(() -> {
+                while (pending.getAndDecrement() > 0 && !isClosed()) {
+                    startBrowser(wdmSupplier, onReady);
+                }
+            });
+        }
+    }
+
+    public synchronized void awaitReady(int minReady)
+            throws InterruptedException {
+        int target = minReady <= 0 ? requested : minReady;
+        long remaining;
+        while (readyDrivers.size() < Math.min(target, size())
+                && (remaining = deadline - System.nanoTime()) > 0) {
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        log.debug("{} of {} browsers in Docker ready", readyDrivers.size(),
+                requested);
+    }
+
+    @Override
+    public synchronized WebDriver get(int index) {
+        long remaining;
+        while (index >= readyDrivers.size() && index < size()
+                && (remaining = deadline - System.nanoTime()) > 0) {
+            try {
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (index >= readyDrivers.size()) {
+            throw new IndexOutOfBoundsException("Browser " + index
+                    + " not available (" + readyDrivers.size() + " of "
+                    + requested + " browsers in Docker ready)");
+        }
+        return readyDrivers.get(index);
+    }
+
+    @Override
+    public synchronized int size() {
+        if (closed || System.nanoTime() > deadline) {
+            return readyDrivers.size();
+        }
+        return requested - failed;
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        notifyAll();
+    }
+
+    private synchronized boolean isClosed() {
+        return closed;
+    }
+
+    private void startBrowser(Supplier<WebDriverManager> wdmSupplier,
+            Consumer<WebDriverManager> onReady) {
+        WebDriverManager wdm = null;
+        try {
+            wdm = wdmSupplier.get();
+            WebDriver driver = wdm.create();
+            synchronized (this) {
+                if (!closed && System.nanoTime() <= deadline) {
+                    onReady.accept(wdm);
+                    readyDrivers.add(driver);
+                    notifyAll();
+                    return;
+                }
+            }
+            log.warn("Discarding browser {} (started after the timeout)",
+                    driver);
+        } catch (Exception e) {
+            log.warn("Exception starting browser in Docker", e);
+        }
+        synchronized (this) {
+            failed++;
+            notifyAll();
+        }
+        if (wdm != null) {
+            wdm.quit();
+        }
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+
+/**
+ * Pool of HtmlUnitDriver instances. The drivers are reset (i.e., extra windows
+ * closed, blank page loaded, and cookies deleted) when released, and they are
+ * reused by the next tests requesting the same type and capabilities (keeping
+ * the JavaScript engine and the HTTP cache of each instance).
+ *
+ * @author Boni Garcia
+ * @since 6.4.0
+ */
+public class HtmlUnitPool implements AutoCloseable {
+
+    final Logger log = getLogger(lookup().lookupClass());
+
+    static final String BLANK_PAGE = "about:blank";
+
+    int maxIdle;
+    Map<String, Deque<WebDriver>> idleDrivers;
+    Map<WebDriver, String> driverKeys;
+    boolean closed;
+
+    public HtmlUnitPool(int maxIdle) {
+        this.maxIdle = maxIdle;
+        this.idleDrivers = new HashMap<>();
+        this.driverKeys = new HashMap<>();
+    }
+
+    public synchronized Optional<WebDriver> borrow(Class<?> type,
+            Optional<Capabilities> capabilities) {
+        Deque<WebDriver> drivers = idleDrivers
+                .get(getKey(type, capabilities));
+        WebDriver driver = drivers != null ? drivers.pollFirst() : null;
+        if (driver != null) {
+            log.trace("Reusing HtmlUnit driver {}", driver);
+        }
+        return Optional.ofNullable(driver);
+    }
+
+    public synchronized void register(WebDriver driver, Class<?> type,
+            Optional<Capabilities> capabilities) {
+        driverKeys.put(driver, getKey(type, capabilities));
+    }
+
+    public void release(WebDriver driver) {
+        String key;
+        synchronized (this) {
+            key = driverKeys.get(driver);
+        }
+        if (key == null || !reset(driver)) {
+            quit(driver);
+            return;
+        }
+        synchronized (this) {
+            Deque<WebDriver> drivers = idleDrivers.computeIfAbsent(key,
+                    k -> new ArrayDeque<>());
+            if (!closed && drivers.size() < maxIdle) {
+                drivers.addLast(driver);
+                return;
+            }
+        }
+        quit(driver);
+    }
+
+    @Override
+    public void close() {
+        Map<String, Deque<WebDriver>> drivers;
+        synchronized (this) {
+            closed = true;
+            drivers = new HashMap<>(idleDrivers);
+            idleDrivers.clear();
+        }
+        drivers.values().forEach(deque -> deque.forEach(this::quit));
+    }
+
+    private boolean reset(WebDriver driver) {
+        try {
+            Set<String> windowHandles = driver.getWindowHandles();
+            String firstWindow = windowHandles.iterator().next();
+            for (String windowHandle : windowHandles) {
+                if (!windowHandle.equals(firstWindow)) {
+                    driver.switchTo().window(windowHandle).close();
+                }
+            }
+            driver.switchTo().window(firstWindow);
+            driver.get(BLANK_PAGE);
+            driver.manage().deleteAllCookies();
+            return true;
+        } catch (Exception e) {
+            log.debug("Exception resetting HtmlUnit driver {}", driver, e);
+            return false;
+        }
+    }
+
+    private void quit(WebDriver driver) {
+        synchronized (this) {
+            driverKeys.remove(driver);
+        }
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            log.warn("Exception quitting HtmlUnit driver {}", driver, e);
+        }
+    }
+
+    private String getKey(Class<?> type,
+            Optional<Capabilities> capabilities) {
+        return type.getName() + capabilities
+                .map(caps -> caps.asMap().toString()).orElse("");
+    }
+
+}
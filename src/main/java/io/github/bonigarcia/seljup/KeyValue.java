@@ -0,0 +1,142 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.ToNumberPolicy;
+
+/**
+ * Typed entry of the key=value specs used in capabilities and preferences
+ * (e.g., in {@link DriverCapabilities}, {@link Preferences}, or browser
+ * templates). The values are parsed as boolean, integer, long, double, JSON
+ * (object or array), or string. The specs are parsed once and cached, and so
+ * the JSON values are immutable (since they are shared by all the tests).
+ *
+ * @author Boni Garcia
+ * @since 6.4.0
+ */
+public class KeyValue {
+
+    static final Logger log = getLogger(lookup().lookupClass());
+
+    static final Pattern INTEGER_PATTERN = Pattern.compile("-?\\d+");
+    static final Pattern DECIMAL_PATTERN = Pattern
+            .compile("-?\\d*\\.\\d+([eE][-+]?\\d+)?");
+
+    static final Map<List<String>, List<KeyValue>> cache = new ConcurrentHashMap<>();
+
+    // Integral numbers in JSON values as long (instead of double)
+    static final Gson gson = new GsonBuilder()
+            .setObjectToNumberStrategy(ToNumberPolicy.LONG_OR_DOUBLE)
+            .create();
+
+    String key;
+    Object value;
+
+    KeyValue(String key, Object value) {
+        this.key = key;
+        this.value = value;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public static List<KeyValue> parse(String... specs) {
+        return cache.computeIfAbsent(Arrays.asList(specs.clone()), key -> {
+            List<KeyValue> entries = new ArrayList<>();
+            for (String spec : key) {
+                parse(spec).ifPresent(entries::add);
+            }
+            return Collections.unmodifiableList(entries);
+        });
+    }
+
+    public static Optional<KeyValue> parse(String spec) {
+        int separator = spec != null ? spec.indexOf('=') : -1;
+        if (separator <= 0 || separator == spec.length() - 1) {
+            log.warn("Invalid format in {} (expected key=value)", spec);
+            return Optional.empty();
+        }
+        String key = spec.substring(0, separator);
+        String value = spec.substring(separator + 1);
+        return Optional.of(new KeyValue(key, parseValue(value)));
+    }
+
+    static Object parseValue(String value) {
+        if (value.equalsIgnoreCase("true") || value.equalsIgnoreCase("false")) {
+            return Boolean.valueOf(value);
+        }
+        try {
+            if (INTEGER_PATTERN.matcher(value).matches()) {
+                long longValue = Long.parseLong(value);
+                return longValue == (int) longValue ? (Object) (int) longValue
+                        : (Object) longValue;
+            }
+            if (DECIMAL_PATTERN.matcher(value).matches()) {
+                return Double.valueOf(value);
+            }
+            if (value.startsWith("{") || value.startsWith("[")) {
+                return immutable(gson.fromJson(value, Object.class));
+            }
+        } catch (Exception e) {
+            log.trace("Value {} parsed as string ({})", value,
+                    e.getMessage());
+        }
+        return value;
+    }
+
+    static Object immutable(Object value) {
+        if (value instanceof Map) {
+            Map<Object, Object> map = new LinkedHashMap<>();
+            ((Map<?, ?>) value).forEach((k, v) -> map.put(k, immutable(v)));
+            return Collections.unmodifiableMap(map);
+        }
+        if (value instanceof List) {
+            List<Object> list = new ArrayList<>();
+            ((List<?>) value).forEach(item -> list.add(immutable(item)));
+            return Collections.unmodifiableList(list);
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return key + "=" + value;
+    }
+
+}
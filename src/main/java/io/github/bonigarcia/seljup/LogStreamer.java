@@ -0,0 +1,187 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import io.github.bonigarcia.wdm.config.DriverManagerType;
+
+/**
+ * Streaming of the browser console logs to a file during the test. Only the
+ * last entries are kept in memory (ring buffer), and the number of entries
+ * evicted from that buffer is counted.
+ *
+ * @author Boni Garcia
+ * @since 6.4.0
+ */
+public class LogStreamer implements AutoCloseable {
+
+    static final Logger log = getLogger(lookup().lookupClass());
+
+    static final ScheduledExecutorService SCHEDULER = Executors
+            .newScheduledThreadPool(2, runnable -> {
+                Thread thread = new Thread(runnable, "seljup-log-streamer");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    WebDriverManager wdm;
+    WebDriver driver;
+    File logFile;
+    int bufferSize;
+    boolean cumulativeLogs;
+    int readEntries;
+    long droppedEntries;
+    Deque<String> lastEntries;
+    BufferedWriter writer;
+    ScheduledFuture<?> pollTask;
+    boolean closed;
+
+    public LogStreamer(WebDriverManager wdm, WebDriver driver, File logFile,
+            int bufferSize) {
+        this.wdm = wdm;
+        this.driver = driver;
+        this.logFile = logFile;
+        this.bufferSize = bufferSize;
+        this.lastEntries = new ArrayDeque<>();
+
+        // In Firefox, the logs are gathered by BrowserWatcher and each read
+        // returns all the entries so far. Otherwise, each read (using the
+        // driver logging API) returns only the new entries
+        this.cumulativeLogs = wdm
+                .getDriverManagerType() == DriverManagerType.FIREFOX;
+    }
+
+    public void start(long intervalMs) {
+        try {
+            writer = Files.newBufferedWriter(logFile.toPath(), UTF_8, CREATE,
+                    APPEND);
+            log.debug("Streaming console logs of {} to {}", driver, logFile);
+            pollTask = SCHEDULER.scheduleWithFixedDelay(this::poll,
+                    intervalMs, intervalMs, MILLISECONDS);
+        } catch (Exception e) {
+            log.warn("Exception opening log file {}", logFile, e);
+        }
+    }
+
+    public synchronized void poll() {
+        if (closed || writer == null) {
+            return;
+        }
+        try {
+            List<Map<String, Object>> logs = wdm.getLogs(driver);
+            if (logs == null) {
+                return;
+            }
+            int from = cumulativeLogs ? Math.min(readEntries, logs.size())
+                    : 0;
+            for (Map<String, Object> entry : logs.subList(from,
+                    logs.size())) {
+                String line = formatLogEntry(entry);
+                writer.write(line);
+                writer.newLine();
+                lastEntries.addLast(line);
+                if (lastEntries.size() > bufferSize) {
+                    lastEntries.removeFirst();
+                    droppedEntries++;
+                }
+            }
+            readEntries = cumulativeLogs ? logs.size()
+                    : readEntries + logs.size();
+            writer.flush();
+        } catch (Exception e) {
+            log.trace("Exception reading logs of {}, stopping log streaming",
+                    driver, e);
+            stopPolling();
+        }
+    }
+
+    public synchronized String getLastEntries() {
+        if (lastEntries.isEmpty()) {
+            return null;
+        }
+        StringBuilder out = new StringBuilder();
+        if (droppedEntries > 0) {
+            out.append(String.format(
+                    "(%d previous entries not shown, see %s)", droppedEntries,
+                    logFile.getName())).append(System.lineSeparator());
+        }
+        out.append(String.join(System.lineSeparator(), lastEntries));
+        return out.toString();
+    }
+
+    public synchronized long getDroppedEntries() {
+        return droppedEntries;
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    public File getLogFile() {
+        return logFile;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        poll();
+        stopPolling();
+        closed = true;
+        try {
+            if (writer != null) {
+                writer.close();
+            }
+        } catch (Exception e) {
+            log.warn("Exception closing log file {}", logFile, e);
+        }
+    }
+
+    public static String formatLogEntry(Map<String, Object> entry) {
+        return String.format("[%s] [%s] %s", entry.get("datetime"),
+                entry.get("type"), entry.get("message"));
+    }
+
+    private void stopPolling() {
+        if (pollTask != null) {
+            pollTask.cancel(false);
+        }
+    }
+
+}
@@ -0,0 +1,406 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Recorder of the network activity of a Chromium-based browser (using the
+ * DevTools Network domain). The completed requests are spilled to a temporary
+ * file (only the requests in progress are kept in memory), and the whole
+ * recording can be exported as a HAR (HTTP Archive) file. The DevTools session
+ * may be shared with other features (e.g., a DevTools parameter of the same
+ * test), and so the recorder only detaches its own listeners when closed.
+ *
+ * @author Boni Garcia
+ * @since 6.4.0
+ */
+public class NetworkRecorder implements AutoCloseable {
+
+    final Logger log = getLogger(lookup().lookupClass());
+
+    static final String HAR_VERSION = "1.2";
+    static final String HAR_CREATOR = "Selenium-Jupiter";
+
+    WebDriver driver;
+    DevTools devTools;
+    File harFile;
+    Gson gson;
+    Path spillFile;
+    BufferedWriter spillWriter;
+    Map<String, Map<String, Object>> pendingRequests;
+    int recordedEntries;
+    boolean closed;
+    List<Listener> listeners;
+
+    // Offset between the wall clock and the monotonic timestamps of DevTools
+    // (in seconds), used for the events without wallTime
+    double wallTimeOffset = Double.NaN;
+
+    public NetworkRecorder(WebDriver driver, DevTools devTools, File harFile) {
+        this.driver = driver;
+        this.devTools = devTools;
+        this.harFile = harFile;
+        this.gson = new Gson();
+        this.pendingRequests = new LinkedHashMap<>();
+        this.listeners = new ArrayList<>();
+    }
+
+    public void start() {
+        try {
+            spillFile = Files.createTempFile("seljup-network-", ".jsonl");
+            spillWriter = Files.newBufferedWriter(spillFile, UTF_8);
+        } catch (IOException e) {
+            throw new SeleniumJupiterException(
+                    "Exception creating network recording file", e);
+        }
+        addListener("Network.requestWillBeSent", this::onRequestWillBeSent);
+        addListener("Network.responseReceived", this::onResponseReceived);
+        addListener("Network.loadingFinished", this::onLoadingFinished);
+        addListener("Network.loadingFailed", this::onLoadingFailed);
+        devTools.send(new Command<>("Network.enable", Collections.emptyMap()));
+        log.debug("Recording network activity of {}", driver);
+    }
+
+    private void addListener(String method,
+            Consumer<Map<String, Object>> handler) {
+        Listener listener = new Listener(handler);
+        listeners.add(listener);
+        devTools.addListener(event(method), listener);
+    }
+
+    public synchronized int getRecordedEntries() {
+        return recordedEntries;
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    public File getHarFile() {
+        return harFile;
+    }
+
+    public synchronized File writeHar() {
+        if (spillWriter == null) {
+            return null;
+        }
+        try {
+            spillWriter.flush();
+            Files.createDirectories(
+                    harFile.getAbsoluteFile().getParentFile().toPath());
+            try (JsonWriter writer = new JsonWriter(
+                    Files.newBufferedWriter(harFile.toPath(), UTF_8));
+                    BufferedReader reader = Files.newBufferedReader(spillFile,
+                            UTF_8)) {
+                writer.beginObject().name("log").beginObject();
+                writer.name("version").value(HAR_VERSION);
+                writer.name("creator").beginObject().name("name")
+                        .value(HAR_CREATOR).name("version").value(HAR_VERSION)
+                        .endObject();
+                writer.name("entries").beginArray();
+
+                // Completed requests are streamed from the spill file
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    gson.toJson(JsonParser.parseString(line), writer);
+                }
+
+                // Requests still in progress are included without response
+                for (Map<String, Object> request : pendingRequests.values()) {
+                    gson.toJson(toHarEntry(request, null, null), Map.class,
+                            writer);
+                }
+                writer.endArray().endObject().endObject();
+            }
+            log.debug("Network activity of {} written to {}", driver,
+                    harFile);
+            return harFile;
+        } catch (Exception e) {
+            log.warn("Exception writing HAR file {}", harFile, e);
+            return null;
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        // DevTools only allows clearing all the listeners of the session
+        // (including the ones not registered by this recorder), and so the
+        // listeners of the recorder are detached instead
+        listeners.forEach(Listener::detach);
+        listeners.clear();
+        try {
+            devTools.send(
+                    new Command<>("Network.disable", Collections.emptyMap()));
+        } catch (Exception e) {
+            log.trace("Exception disabling network domain in {}", driver, e);
+        }
+        try {
+            if (spillWriter != null) {
+                spillWriter.close();
+                Files.deleteIfExists(spillFile);
+            }
+        } catch (IOException e) {
+            log.warn("Exception deleting {}", spillFile, e);
+        }
+        pendingRequests.clear();
+    }
+
+    private synchronized void onRequestWillBeSent(Map<String, Object> params) {
+        if (closed) {
+            return;
+        }
+        String requestId = (String) params.get("requestId");
+        double wallTime = number(params.get("wallTime"));
+        double timestamp = number(params.get("timestamp"));
+        if (wallTime >= 0 && timestamp >= 0) {
+            wallTimeOffset = wallTime - timestamp;
+        }
+        Object redirectResponse = params.get("redirectResponse");
+        if (redirectResponse != null) {
+            // Redirects reuse the request id: the previous hop is completed
+            Map<String, Object> previous = pendingRequests.remove(requestId);
+            if (previous != null) {
+                previous.put("response", redirectResponse);
+                spill(toHarEntry(previous, params.get("timestamp"), null));
+            }
+        }
+        pendingRequests.put(requestId, new LinkedHashMap<>(params));
+    }
+
+    private synchronized void onResponseReceived(Map<String, Object> params) {
+        Map<String, Object> request = pendingRequests
+                .get(params.get("requestId"));
+        if (request != null) {
+            request.put("response", params.get("response"));
+        }
+    }
+
+    private synchronized void onLoadingFinished(Map<String, Object> params) {
+        Map<String, Object> request = pendingRequests
+                .remove(params.get("requestId"));
+        if (request != null) {
+            request.put("encodedDataLength", params.get("encodedDataLength"));
+            spill(toHarEntry(request, params.get("timestamp"), null));
+        }
+    }
+
+    private synchronized void onLoadingFailed(Map<String, Object> params) {
+        Map<String, Object> request = pendingRequests
+                .remove(params.get("requestId"));
+        if (request != null) {
+            spill(toHarEntry(request, params.get("timestamp"),
+                    (String) params.get("errorText")));
+        }
+    }
+
+    private void spill(Map<String, Object> harEntry) {
+        if (closed) {
+            return;
+        }
+        try {
+            spillWriter.write(gson.toJson(harEntry));
+            spillWriter.newLine();
+            recordedEntries++;
+        } catch (IOException e) {
+            log.warn("Exception writing network entry to {}", spillFile, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> toHarEntry(Map<String, Object> event,
+            Object endTimestamp, String errorText) {
+        Map<String, Object> request = (Map<String, Object>) event
+                .getOrDefault("request", Collections.emptyMap());
+        Map<String, Object> response = (Map<String, Object>) event
+                .getOrDefault("response", Collections.emptyMap());
+        double startTimestamp = number(event.get("timestamp"));
+        double time = endTimestamp != null
+                ? (number(endTimestamp) - startTimestamp) * 1000
+                : -1;
+        String httpVersion = String
+                .valueOf(response.getOrDefault("protocol", "unknown"));
+
+        Map<String, Object> harRequest = new LinkedHashMap<>();
+        harRequest.put("method", request.get("method"));
+        harRequest.put("url", request.get("url"));
+        harRequest.put("httpVersion", httpVersion);
+        harRequest.put("cookies", Collections.emptyList());
+        harRequest.put("headers", toHarHeaders(request.get("headers")));
+        harRequest.put("queryString", Collections.emptyList());
+        harRequest.put("headersSize", -1);
+        harRequest.put("bodySize", -1);
+
+        Map<String, Object> content = new LinkedHashMap<>();
+        content.put("size", -1);
+        content.put("mimeType", response.getOrDefault("mimeType", ""));
+
+        Map<String, Object> harResponse = new LinkedHashMap<>();
+        harResponse.put("status",
+                (long) number(response.getOrDefault("status", 0)));
+        harResponse.put("statusText",
+                response.getOrDefault("statusText", ""));
+        harResponse.put("httpVersion", httpVersion);
+        harResponse.put("cookies", Collections.emptyList());
+        harResponse.put("headers", toHarHeaders(response.get("headers")));
+        harResponse.put("content", content);
+        harResponse.put("redirectURL", "");
+        harResponse.put("headersSize", -1);
+        harResponse.put("bodySize", event.containsKey("encodedDataLength")
+                ? (long) number(event.get("encodedDataLength"))
+                : -1);
+        if (errorText != null) {
+            harResponse.put("_error", errorText);
+        }
+
+        Map<String, Object> harEntry = new LinkedHashMap<>();
+        double wallTime = number(event.get("wallTime"));
+        if (wallTime < 0 && startTimestamp >= 0
+                && !Double.isNaN(wallTimeOffset)) {
+            wallTime = startTimestamp + wallTimeOffset;
+        }
+        if (wallTime >= 0) {
+            harEntry.put("startedDateTime",
+                    Instant.ofEpochMilli((long) (wallTime * 1000)).toString());
+        }
+        harEntry.put("time", time);
+        harEntry.put("request", harRequest);
+        harEntry.put("response", harResponse);
+        harEntry.put("cache", Collections.emptyMap());
+        harEntry.put("timings", toHarTimings(
+                (Map<String, Object>) response.get("timing"), endTimestamp));
+        return harEntry;
+    }
+
+    private Map<String, Object> toHarTimings(Map<String, Object> timing,
+            Object endTimestamp) {
+        Map<String, Object> timings = new LinkedHashMap<>();
+        if (timing == null) {
+            timings.put("send", 0);
+            timings.put("wait", 0);
+            timings.put("receive", 0);
+            return timings;
+        }
+
+        // CDP timings are offsets (in ms) from requestTime (in seconds)
+        double dnsStart = number(timing.get("dnsStart"));
+        double connectStart = number(timing.get("connectStart"));
+        double sslStart = number(timing.get("sslStart"));
+        double sendStart = number(timing.get("sendStart"));
+        double sendEnd = number(timing.get("sendEnd"));
+        double receiveHeadersEnd = number(timing.get("receiveHeadersEnd"));
+        double blocked = dnsStart >= 0 ? dnsStart
+                : connectStart >= 0 ? connectStart : sendStart;
+        double receive = endTimestamp != null
+                ? number(endTimestamp) * 1000
+                        - (number(timing.get("requestTime")) * 1000
+                                + receiveHeadersEnd)
+                : -1;
+
+        timings.put("blocked", blocked);
+        timings.put("dns", dnsStart >= 0
+                ? number(timing.get("dnsEnd")) - dnsStart
+                : -1);
+        timings.put("connect", connectStart >= 0
+                ? number(timing.get("connectEnd")) - connectStart
+                : -1);
+        timings.put("ssl", sslStart >= 0
+                ? number(timing.get("sslEnd")) - sslStart
+                : -1);
+        timings.put("send", sendEnd - sendStart);
+        timings.put("wait", receiveHeadersEnd - sendEnd);
+        timings.put("receive", Math.max(receive, -1));
+        return timings;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> toHarHeaders(Object headers) {
+        List<Map<String, Object>> harHeaders = new ArrayList<>();
+        if (headers instanceof Map) {
+            ((Map<String, Object>) headers).forEach((name, value) -> {
+                Map<String, Object> header = new LinkedHashMap<>();
+                header.put("name", name);
+                header.put("value", String.valueOf(value));
+                harHeaders.add(header);
+            });
+        }
+        return harHeaders;
+    }
+
+    static double number(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : -1;
+    }
+
+    static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+
+    static class Listener implements Consumer<Map<String, Object>> {
+
+        volatile Consumer<Map<String, Object>> handler;
+
+        Listener(Consumer<Map<String, Object>> handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void accept(Map<String, Object> params) {
+            Consumer<Map<String, Object>> currentHandler = handler;
+            if (currentHandler != null) {
+                currentHandler.accept(params);
+            }
+        }
+
+        void detach() {
+            handler = null;
+        }
+
+    }
+
+}
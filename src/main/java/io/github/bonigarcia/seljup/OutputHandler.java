@@ -22,11 +22,17 @@ import static java.util.Locale.ROOT;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.openqa.selenium.WebDriver;
@@ -53,9 +59,21 @@ public class OutputHandler {
     public static final String SUREFIRE_REPORTS_KEY = "surefire-reports";
     public static final String SUREFIRE_REPORTS_FOLDER = "./target/surefire-reports/";
 
+    static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter
+            .ofPattern(DATE_FORMAT);
+
+    // Folders already created in this execution (to avoid checking the file
+    // system each time)
+    static final Set<String> createdFolders = ConcurrentHashMap.newKeySet();
+
+    // Output folders already resolved for each test class (i.e., shared by
+    // all the handlers of the class, one per test and parameter)
+    static final Map<String, String> classOutputFolders = new ConcurrentHashMap<>();
+
     ExtensionContext extensionContext;
     Config config;
     Parameter parameter;
+    String outputFolder;
 
     public OutputHandler(ExtensionContext extensionContext, Config config,
             Parameter parameter) {
@@ -71,21 +89,21 @@ public class OutputHandler {
     }
 
     public String getPrefix() {
-        String prefix = "";
+        StringBuilder prefix = new StringBuilder();
         Optional<Method> testMethod = extensionContext.getTestMethod();
         if (testMethod.isPresent()) {
-            prefix = testMethod.get().getName() + SEPARATOR;
+            prefix.append(testMethod.get().getName()).append(SEPARATOR);
         } else {
             Optional<Class<?>> testClass = extensionContext.getTestClass();
             if (testClass.isPresent()) {
-                prefix = testClass.get().getSimpleName() + SEPARATOR;
+                prefix.append(testClass.get().getSimpleName())
+                        .append(SEPARATOR);
             }
         }
-        Date now = new Date();
-        SimpleDateFormat dateFormat = new SimpleDateFormat(DATE_FORMAT);
-        prefix += parameter.getName() + SEPARATOR + dateFormat.format(now)
-                + SEPARATOR;
-        return prefix;
+        prefix.append(parameter.getName()).append(SEPARATOR)
+                .append(DATE_FORMATTER.format(LocalDateTime.now()))
+                .append(SEPARATOR);
+        return prefix.toString();
     }
 
     public String getOutputFileName(WebDriver driver) {
@@ -100,30 +118,59 @@ public class OutputHandler {
     }
 
     public String getOutputFolder() {
+        if (outputFolder == null) {
+            outputFolder = resolveOutputFolder();
+            if (!createdFolders.contains(outputFolder)) {
+                createOutputFolder(outputFolder);
+            }
+        }
+        return outputFolder;
+    }
+
+    private void createOutputFolder(String folder) {
+        try {
+            Files.createDirectories(Paths.get(folder));
+            // Only recorded once created, so failures are retried next time
+            createdFolders.add(folder);
+        } catch (IOException e) {
+            log.warn("Exception creating output folder {}", folder, e);
+        }
+    }
+
+    private String resolveOutputFolder() {
         String outputFolder = config.getOutputFolder();
         Optional<Method> testMethod = extensionContext.getTestMethod();
         Optional<Class<?>> testInstance = extensionContext.getTestClass();
         if (testMethod.isPresent() && testInstance.isPresent()) {
             Class<?> testClass = testInstance.get();
-            if (outputFolder.equalsIgnoreCase(SUREFIRE_REPORTS_KEY)) {
-                // backwards-compatibility: if the surefire-key is configured, always use class-specific output folder
-                outputFolder = getClassSpecificOutputFolder(SUREFIRE_REPORTS_FOLDER, testClass);
-            } else {
-                if (outputFolder.isEmpty()) {
-                    outputFolder = ".";
-                }
-
-                if (config.isOutputFolderPerClass()) {
-                    outputFolder = getClassSpecificOutputFolder(outputFolder, testClass);
-                }
-            }
+            boolean perClass = config.isOutputFolderPerClass();
+            String key = String.join(File.pathSeparator, outputFolder,
+                    String.valueOf(perClass), testClass.getName());
+            String baseFolder = outputFolder;
+            outputFolder = classOutputFolders.computeIfAbsent(key,
+                    k -> resolveClassOutputFolder(baseFolder, perClass,
+                            testClass));
         }
+        return outputFolder;
+    }
 
-        log.trace("Output folder {}", outputFolder);
-        File outputFolderFile = new File(outputFolder);
-        if (!outputFolderFile.exists()) {
-            outputFolderFile.mkdirs();
+    private String resolveClassOutputFolder(String outputFolder,
+            boolean perClass, Class<?> testClass) {
+        if (outputFolder.equalsIgnoreCase(SUREFIRE_REPORTS_KEY)) {
+            // backwards-compatibility: if the surefire-key is configured, always use class-specific output folder
+            outputFolder = getClassSpecificOutputFolder(SUREFIRE_REPORTS_FOLDER, testClass);
+        } else {
+            if (outputFolder.isEmpty()) {
+                outputFolder = ".";
+            }
+
+            if (perClass) {
+                outputFolder = getClassSpecificOutputFolder(outputFolder, testClass);
+            }
         }
+
+        log.trace("Output folder of {}: {}", testClass.getName(),
+                outputFolder);
         return outputFolder;
     }
 
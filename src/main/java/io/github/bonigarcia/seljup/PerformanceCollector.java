@@ -0,0 +1,155 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+
+/**
+ * Collector of page performance metrics of Chromium-based browsers (DevTools
+ * Performance domain and navigation timing), and checker of the thresholds
+ * declared with {@link CollectPerformance}.
+ *
+ * @author Boni Garcia
+ * @since 6.4.0
+ */
+public class PerformanceCollector implements AutoCloseable {
+
+    final Logger log = getLogger(lookup().lookupClass());
+
+    static final String LAYOUT_COUNT = "LayoutCount";
+    static final String SCRIPT_DURATION = "ScriptDuration";
+    static final String JS_HEAP_USED_SIZE = "JSHeapUsedSize";
+    static final String DOM_CONTENT_LOADED_MS = "DomContentLoadedMs";
+    static final String LOAD_TIME_MS = "LoadTimeMs";
+    static final String RESPONSE_END_MS = "ResponseEndMs";
+    static final String NAVIGATION_TIMING_SCRIPT = "const entry = "
+            + "performance.getEntriesByType('navigation')[0];"
+            + "return entry ? entry.toJSON() : null;";
+
+    WebDriver driver;
+    DevTools devTools;
+    CollectPerformance collectPerformance;
+
+    public PerformanceCollector(WebDriver driver, DevTools devTools,
+            CollectPerformance collectPerformance) {
+        this.driver = driver;
+        this.devTools = devTools;
+        this.collectPerformance = collectPerformance;
+    }
+
+    public void start() {
+        devTools.send(new Command<>("Performance.enable",
+                Collections.singletonMap("timeDomain", "timeTicks")));
+        log.debug("Collecting performance metrics of {}", driver);
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Map<String, Double> collect() {
+        Map<String, Double> metrics = new LinkedHashMap<>();
+
+        // Performance domain
+        Map<String, Object> response = devTools
+                .send(new Command<>("Performance.getMetrics",
+                        Collections.emptyMap(),
+                        input -> input.read(Json.MAP_TYPE)));
+        Object metricList = response.get("metrics");
+        if (metricList instanceof List) {
+            for (Object metric : (List<Object>) metricList) {
+                Map<String, Object> entry = (Map<String, Object>) metric;
+                metrics.put(String.valueOf(entry.get("name")),
+                        toDouble(entry.get("value")));
+            }
+        }
+
+        // Navigation timing
+        try {
+            Object navigation = ((JavascriptExecutor) driver)
+                    .executeScript(NAVIGATION_TIMING_SCRIPT);
+            if (navigation instanceof Map) {
+                Map<String, Object> timing = (Map<String, Object>) navigation;
+                metrics.put(RESPONSE_END_MS,
+                        toDouble(timing.get("responseEnd")));
+                metrics.put(DOM_CONTENT_LOADED_MS,
+                        toDouble(timing.get("domContentLoadedEventEnd")));
+                metrics.put(LOAD_TIME_MS,
+                        toDouble(timing.get("loadEventEnd")));
+            }
+        } catch (Exception e) {
+            log.trace("Exception reading navigation timing of {}", driver, e);
+        }
+        return metrics;
+    }
+
+    public List<String> checkThresholds(Map<String, Double> metrics) {
+        List<String> violations = new ArrayList<>();
+        checkThreshold(violations, metrics, LAYOUT_COUNT,
+                collectPerformance.maxLayoutCount(), 1);
+        checkThreshold(violations, metrics, SCRIPT_DURATION,
+                collectPerformance.maxScriptDurationMs(), 1000);
+        checkThreshold(violations, metrics, JS_HEAP_USED_SIZE,
+                collectPerformance.maxJsHeapUsedMb(), 1.0 / (1024 * 1024));
+        checkThreshold(violations, metrics, DOM_CONTENT_LOADED_MS,
+                collectPerformance.maxDomContentLoadedMs(), 1);
+        checkThreshold(violations, metrics, LOAD_TIME_MS,
+                collectPerformance.maxLoadTimeMs(), 1);
+        return violations;
+    }
+
+    @Override
+    public void close() {
+        try {
+            devTools.send(new Command<>("Performance.disable",
+                    Collections.emptyMap()));
+        } catch (Exception e) {
+            log.trace("Exception disabling performance domain in {}", driver,
+                    e);
+        }
+    }
+
+    private void checkThreshold(List<String> violations,
+            Map<String, Double> metrics, String name, long threshold,
+            double scale) {
+        Double value = metrics.get(name);
+        if (threshold >= 0 && value != null && value * scale > threshold) {
+            violations.add(String.format("%s=%.2f exceeds the threshold %d",
+                    name, value * scale, threshold));
+        }
+    }
+
+    private static double toDouble(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : -1;
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.slf4j.Logger;
+
+/**
+ * Monitor of the resources (CPU time and resident memory) used by the process
+ * tree of a local browser, i.e., the driver process started by the JVM (e.g.,
+ * chromedriver) and its descendants (i.e., the browser processes). The driver
+ * process is found by the port of its driver service.
+ *
+ * @author Boni Garcia
+ * @since 6.4.0
+ */
+public class ProcessResourceMonitor {
+
+    static final Logger log = getLogger(lookup().lookupClass());
+
+    static final String PHASE_CREATE = "create";
+    static final String PHASE_TEST = "test";
+    static final String PHASE_QUIT = "quit";
+    static final String CPU_MS = "cpuMs";
+    static final String RSS_MB = "rssMb";
+    static final String PROCESSES = "processes";
+
+    WebDriver driver;
+    ProcessHandle driverProcess;
+    Map<String, Map<String, Long>> samples;
+
+    ProcessResourceMonitor(WebDriver driver, ProcessHandle driverProcess) {
+        this.driver = driver;
+        this.driverProcess = driverProcess;
+        this.samples = new LinkedHashMap<>();
+    }
+
+    public static Optional<ProcessResourceMonitor> find(WebDriver driver) {
+        Optional<Integer> port = getDriverServicePort(driver);
+        if (!port.isPresent()) {
+            return Optional.empty();
+        }
+        Pattern portPattern = Pattern
+                .compile("--port[=\\s]" + port.get() + "(\\s|$)");
+        Optional<ProcessHandle> driverProcess = ProcessHandle.current()
+                .children()
+                .filter(process -> process.info().commandLine()
+                        .map(commandLine -> portPattern.matcher(commandLine)
+                                .find())
+                        .orElse(false))
+                .findFirst();
+        log.trace("Driver process of {} (port {}): {}", driver, port.get(),
+                driverProcess);
+        return driverProcess
+                .map(process -> new ProcessResourceMonitor(driver, process));
+    }
+
+    public synchronized Map<String, Long> sample(String phase) {
+        long cpuMs = 0;
+        long processes = 0;
+        for (ProcessHandle process : getProcessTree().toList()) {
+            cpuMs += process.info().totalCpuDuration().map(Duration::toMillis)
+                    .orElse(0L);
+            processes++;
+        }
+        Map<String, Long> sample = new LinkedHashMap<>();
+        sample.put(CPU_MS, cpuMs);
+        sample.put(RSS_MB, SystemMemory.getRssMb(driverProcess)
+                + SystemMemory.getDescendantsRssMb(driverProcess));
+        sample.put(PROCESSES, processes);
+        samples.put(phase, sample);
+        log.trace("Process resources of {} at {}: {}", driver, phase, sample);
+        return sample;
+    }
+
+    public synchronized Map<String, Map<String, Long>> getSamples() {
+        return new LinkedHashMap<>(samples);
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    private Stream<ProcessHandle> getProcessTree() {
+        return Stream.concat(Stream.of(driverProcess),
+                driverProcess.descendants());
+    }
+
+    private static Optional<Integer> getDriverServicePort(WebDriver driver) {
+        if (driver instanceof RemoteWebDriver) {
+            CommandExecutor executor = ((RemoteWebDriver) driver)
+                    .getCommandExecutor();
+            if (executor instanceof HttpCommandExecutor) {
+                return Optional.of(((HttpCommandExecutor) executor)
+                        .getAddressOfRemoteServer().getPort());
+            }
+        }
+        return Optional.empty();
+    }
+
+}
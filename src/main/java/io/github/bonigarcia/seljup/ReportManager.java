@@ -0,0 +1,281 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.slf4j.Logger;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import com.aventstack.extentreports.reporter.configuration.Theme;
+
+import io.github.bonigarcia.seljup.config.Config;
+
+/**
+ * Handler of the HTML report (ExtentReports). The report is flushed
+ * incrementally, large attachments are stored as files (instead of Base64),
+ * and the number of tests kept in memory is bounded (when reached, the report
+ * continues in a new file). Since each flush renders the whole report file,
+ * the interval between flushes grows with the number of tests of the file,
+ * so the total time spent flushing is linear in the number of tests.
+ *
+ * @author Boni Garcia
+ * @since 6.4.0
+ */
+public class ReportManager implements AutoCloseable {
+
+    final Logger log = getLogger(lookup().lookupClass());
+
+    static final String REPORT_DATE_PLACEHOLDER = "{date}";
+    static final String REPORT_DATE_FORMAT = "yyyyMMdd-HHmmss";
+    static final int FLUSH_GROWTH_DIVISOR = 4;
+
+    Config config;
+    File reportFile;
+    Path reportFolder;
+    ReportPart currentPart;
+    List<ReportPart> retiredParts;
+    Map<ExtentTest, ReportPart> runningTests;
+    int partNumber;
+    int finishedSinceFlush;
+    int flushCount;
+    boolean closed;
+
+    public ReportManager(Config config) {
+        this.config = config;
+        this.retiredParts = new ArrayList<>();
+        this.runningTests = new HashMap<>();
+
+        String reportFileName = config.getReportFileName();
+        if (reportFileName.contains(REPORT_DATE_PLACEHOLDER)) {
+            String timestamp = LocalDateTime.now()
+                    .format(DateTimeFormatter.ofPattern(REPORT_DATE_FORMAT));
+            reportFileName = reportFileName.replace(REPORT_DATE_PLACEHOLDER,
+                    timestamp);
+        }
+        reportFile = new File(config.getOutputFolder(), reportFileName);
+        reportFolder = reportFile.getAbsoluteFile().getParentFile().toPath()
+                .normalize();
+        partNumber = 1;
+        currentPart = new ReportPart(reportFile);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close));
+    }
+
+    public ExtentTest createTest(ExtensionContext context) {
+        String displayName = context.getDisplayName();
+        String testName = context.getTestClass()
+                .map(testClass -> testClass.getSimpleName() + "." + displayName)
+                .orElse(displayName);
+        ExtentTest extentTest = createTest(testName);
+        context.getTags().forEach(extentTest::assignCategory);
+        return extentTest;
+    }
+
+    public synchronized ExtentTest createTest(String testName) {
+        int maxTests = config.getReportMaxTests();
+        if (maxTests > 0 && currentPart.createdTests >= maxTests) {
+            rollover();
+        }
+
+        ExtentTest extentTest = currentPart.report.createTest(testName);
+        currentPart.createdTests++;
+        currentPart.runningTests++;
+        runningTests.put(extentTest, currentPart);
+        return extentTest;
+    }
+
+    public synchronized void finishTest(ExtentTest test) {
+        ReportPart part = runningTests.remove(test);
+        if (part == null) {
+            return;
+        }
+        part.runningTests--;
+        if (part != currentPart) {
+            if (part.runningTests == 0) {
+                // Last test of a previous report file: write it for good
+                flush(part);
+                retiredParts.remove(part);
+            }
+            return;
+        }
+
+        finishedSinceFlush++;
+        int flushEvery = config.getReportFlushEvery();
+        if (flushEvery > 0 && finishedSinceFlush >= Math.max(flushEvery,
+                currentPart.createdTests / FLUSH_GROWTH_DIVISOR)) {
+            flush(currentPart);
+            finishedSinceFlush = 0;
+        }
+    }
+
+    public void addScreenshot(ExtentTest test, String base64Screenshot,
+            String title, File spillFile) {
+        if (base64Screenshot == null || base64Screenshot.isEmpty()) {
+            return;
+        }
+        if (base64Screenshot.length() <= config.getReportInlineMaxSize()
+                || spillFile == null) {
+            test.addScreenCaptureFromBase64String(base64Screenshot, title);
+            return;
+        }
+        try {
+            Files.createDirectories(spillFile.getAbsoluteFile().getParentFile()
+                    .toPath());
+            Files.write(spillFile.toPath(),
+                    Base64.getMimeDecoder().decode(base64Screenshot));
+            addScreenshot(test, spillFile, title);
+        } catch (Exception e) {
+            log.warn("Exception writing screenshot to {}", spillFile, e);
+        }
+    }
+
+    public void addScreenshot(ExtentTest test, File screenshotFile,
+            String title) {
+        if (screenshotFile != null && screenshotFile.exists()) {
+            test.addScreenCaptureFromPath(
+                    getRelativePath(screenshotFile.toPath()), title);
+        }
+    }
+
+    public void addFile(ExtentTest test, File file, String title) {
+        if (file != null && file.exists()) {
+            test.info(String.format("%s: <a href=\"%s\">%s</a>", title,
+                    getRelativePath(file.toPath()), file.getName()));
+        }
+    }
+
+    public Path addRecording(ExtentTest test, Path recordingPath,
+            String outputFolder) {
+        if (recordingPath == null || !Files.exists(recordingPath)) {
+            return null;
+        }
+        try {
+            // The report links to the recording file (instead of embedding it
+            // as Base64), so recordings outside the output folder (e.g., the
+            // downloads folder used by BrowserWatcher) are copied into it
+            Path outputPath = Path.of(outputFolder).toAbsolutePath()
+                    .normalize();
+            Path recording = recordingPath.toAbsolutePath().normalize();
+            if (!recording.startsWith(outputPath)) {
+                Path target = outputPath.resolve(recording.getFileName());
+                log.trace("Copying recording {} to {}", recording, target);
+                Files.copy(recording, target, REPLACE_EXISTING);
+                recording = target;
+            }
+            test.addVideoFromPath(getRelativePath(recording));
+            return recording;
+        } catch (Exception e) {
+            log.warn("Exception adding recording {} to report", recordingPath,
+                    e);
+            return null;
+        }
+    }
+
+    public synchronized File getCurrentReportFile() {
+        return currentPart.file;
+    }
+
+    public synchronized int getFlushCount() {
+        return flushCount;
+    }
+
+    public synchronized void flush() {
+        flush(currentPart);
+        retiredParts.forEach(this::flush);
+        finishedSinceFlush = 0;
+    }
+
+    private void flush(ReportPart part) {
+        part.report.flush();
+        flushCount++;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            flush();
+            closed = true;
+        }
+    }
+
+    String getRelativePath(Path path) {
+        Path absolutePath = path.toAbsolutePath().normalize();
+        try {
+            return reportFolder.relativize(absolutePath).toString()
+                    .replace(File.separatorChar, '/');
+        } catch (IllegalArgumentException e) {
+            // E.g., a file in a different drive than the report (in Windows)
+            log.trace("Linking {} by its absolute path ({})", absolutePath,
+                    e.getMessage());
+            return absolutePath.toUri().toString();
+        }
+    }
+
+    private void rollover() {
+        log.debug("Report {} reached {} tests, continuing in a new file",
+                currentPart.file, currentPart.createdTests);
+        flush(currentPart);
+        if (currentPart.runningTests > 0) {
+            retiredParts.add(currentPart);
+        }
+        partNumber++;
+        currentPart = new ReportPart(getPartFile(partNumber));
+        finishedSinceFlush = 0;
+    }
+
+    private File getPartFile(int number) {
+        String name = reportFile.getName();
+        int dot = name.lastIndexOf('.');
+        String partName = dot > 0
+                ? name.substring(0, dot) + "-" + number + name.substring(dot)
+                : name + "-" + number;
+        return new File(reportFile.getParentFile(), partName);
+    }
+
+    static class ReportPart {
+        File file;
+        ExtentReports report;
+        int createdTests;
+        int runningTests;
+
+        ReportPart(File file) {
+            this.file = file;
+            this.report = new ExtentReports();
+            ExtentSparkReporter htmlReporter = new ExtentSparkReporter(file);
+            htmlReporter.config().setTheme(Theme.STANDARD); // Dark is possible
+            report.attachReporter(htmlReporter);
+        }
+    }
+
+}
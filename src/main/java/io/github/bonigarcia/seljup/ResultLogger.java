@@ -0,0 +1,353 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.DoubleSummaryStatistics;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.slf4j.Logger;
+
+import com.google.gson.Gson;
+
+import io.github.bonigarcia.seljup.config.Config;
+
+/**
+ * Machine-readable log of test events (one JSON object per line). The events
+ * are written by a single background thread through a buffered writer.
+ *
+ * @author Boni Garcia
+ * @since 6.4.0
+ */
+public class ResultLogger implements AutoCloseable {
+
+    final Logger log = getLogger(lookup().lookupClass());
+
+    static final String EVENT_START = "start";
+    static final String EVENT_FINISH = "finish";
+    static final String EVENT_DRIVER_CREATED = "driver-created";
+    static final String EVENT_SCREENSHOT = "screenshot";
+    static final String EVENT_RECORDING = "recording";
+    static final String EVENT_HAR = "har";
+    static final String EVENT_PERFORMANCE = "performance";
+    static final String EVENT_TRACE = "trace";
+    static final String EVENT_FAILURE = "failure";
+    static final String EVENT_QUIT = "quit";
+    static final String EVENT_PROCESS_RESOURCES = "process-resources";
+    static final String EVENT_SUMMARY = "summary";
+    static final int SUMMARY_MAX_TESTS = 10;
+
+    static final long POLL_TIMEOUT_MS = 500;
+    static final Map<String, Object> END_OF_LOG = new LinkedHashMap<>();
+
+    Path logFile;
+    BlockingQueue<Map<String, Object>> queue;
+    Map<String, Long> startTimes;
+    Map<String, Map<String, Long>> processResources;
+    Map<String, DoubleSummaryStatistics> performanceMetrics;
+    Thread writerThread;
+    Gson gson;
+    volatile boolean closed;
+
+    public ResultLogger(Config config) {
+        String logFileName = config.getResultLogFileName();
+        if (logFileName.contains(ReportManager.REPORT_DATE_PLACEHOLDER)) {
+            String timestamp = LocalDateTime.now().format(DateTimeFormatter
+                    .ofPattern(ReportManager.REPORT_DATE_FORMAT));
+            logFileName = logFileName.replace(
+                    ReportManager.REPORT_DATE_PLACEHOLDER, timestamp);
+        }
+        logFile = new File(config.getOutputFolder(), logFileName).toPath();
+        queue = new LinkedBlockingQueue<>();
+        startTimes = new ConcurrentHashMap<>();
+        processResources = new ConcurrentHashMap<>();
+        performanceMetrics = new ConcurrentHashMap<>();
+        gson = new Gson();
+
+        writerThread = new Thread(this::writeEvents, "seljup-result-log");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close));
+        log.debug("Writing test events to {}", logFile);
+    }
+
+    public void testStarted(String testId, String testName) {
+        startTimes.put(testId, System.currentTimeMillis());
+        Map<String, Object> event = newEvent(EVENT_START, testId);
+        event.put("name", testName);
+        enqueue(event);
+    }
+
+    public void testFinished(String testId, String status) {
+        Map<String, Object> event = newEvent(EVENT_FINISH, testId);
+        event.put("status", status);
+        Long startTime = startTimes.remove(testId);
+        if (startTime != null) {
+            event.put("durationMs", System.currentTimeMillis() - startTime);
+        }
+        enqueue(event);
+    }
+
+    public void testFailed(String testId, Throwable throwable) {
+        Map<String, Object> event = newEvent(EVENT_FAILURE, testId);
+        event.put("exception", throwable.getClass().getName());
+        event.put("message", throwable.getMessage());
+        enqueue(event);
+    }
+
+    public void driverCreated(String testId, WebDriver driver,
+            long durationMs) {
+        Map<String, Object> event = newEvent(EVENT_DRIVER_CREATED, testId);
+        putDriverInfo(event, driver);
+        event.put("durationMs", durationMs);
+        enqueue(event);
+    }
+
+    public void driversQuit(String testId, List<Map<String, Object>> drivers,
+            long durationMs) {
+        Map<String, Object> event = newEvent(EVENT_QUIT, testId);
+        event.put("drivers", drivers);
+        event.put("durationMs", durationMs);
+        enqueue(event);
+    }
+
+    public List<Map<String, Object>> describeDrivers(List<WebDriver> drivers) {
+        // Gathered before quitting, since the session id is lost afterwards
+        List<Map<String, Object>> out = new ArrayList<>();
+        for (WebDriver driver : drivers) {
+            Map<String, Object> driverInfo = new LinkedHashMap<>();
+            putDriverInfo(driverInfo, driver);
+            out.add(driverInfo);
+        }
+        return out;
+    }
+
+    public void screenshot(String testId, File file) {
+        artifact(EVENT_SCREENSHOT, testId, file != null ? file.toPath() : null);
+    }
+
+    public void recording(String testId, Path path) {
+        artifact(EVENT_RECORDING, testId, path);
+    }
+
+    public void har(String testId, File file) {
+        artifact(EVENT_HAR, testId, file.toPath());
+    }
+
+    public void trace(String testId, File file) {
+        artifact(EVENT_TRACE, testId, file.toPath());
+    }
+
+    public void performance(String testId, WebDriver driver,
+            Map<String, Double> metrics) {
+        Map<String, Object> event = newEvent(EVENT_PERFORMANCE, testId);
+        putDriverInfo(event, driver);
+        event.put("metrics", metrics);
+        enqueue(event);
+
+        // Statistics per metric (of all the tests) for the run summary
+        metrics.forEach((name, value) -> {
+            DoubleSummaryStatistics statistics = performanceMetrics
+                    .computeIfAbsent(name,
+                            key -> new DoubleSummaryStatistics());
+            synchronized (statistics) {
+                statistics.accept(value);
+            }
+        });
+    }
+
+    public void processResources(String testId, WebDriver driver,
+            Map<String, Map<String, Long>> samples) {
+        Map<String, Object> event = newEvent(EVENT_PROCESS_RESOURCES, testId);
+        putDriverInfo(event, driver);
+        event.put("samples", samples);
+        enqueue(event);
+
+        // Totals per test (CPU time and peak memory) for the run summary
+        Map<String, Long> totals = processResources.computeIfAbsent(testId,
+                key -> new ConcurrentHashMap<>());
+        samples.values().stream()
+                .mapToLong(sample -> sample
+                        .getOrDefault(ProcessResourceMonitor.RSS_MB, 0L))
+                .max().ifPresent(rssMb -> totals.merge(
+                        ProcessResourceMonitor.RSS_MB, rssMb, Math::max));
+        samples.values().stream()
+                .mapToLong(sample -> sample
+                        .getOrDefault(ProcessResourceMonitor.CPU_MS, 0L))
+                .max().ifPresent(cpuMs -> totals.merge(
+                        ProcessResourceMonitor.CPU_MS, cpuMs, Long::sum));
+    }
+
+    public Path getLogFile() {
+        return logFile;
+    }
+
+    @Override
+    public synchronized void close() {
+        // Synchronized, since it can also be called by the shutdown hook
+        if (closed) {
+            return;
+        }
+        if (!processResources.isEmpty() || !performanceMetrics.isEmpty()) {
+            enqueue(getSummary());
+        }
+        closed = true;
+        queue.add(END_OF_LOG);
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            log.warn("Interrupted while closing result log {}", logFile);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Map<String, Object> getSummary() {
+        // Tests consuming more CPU time in their browser processes first
+        List<Map<String, Object>> tests = processResources.entrySet().stream()
+                .sorted((e1, e2) -> Long.compare(
+                        e2.getValue().getOrDefault(
+                                ProcessResourceMonitor.CPU_MS, 0L),
+                        e1.getValue().getOrDefault(
+                                ProcessResourceMonitor.CPU_MS, 0L)))
+                .limit(SUMMARY_MAX_TESTS).map(entry -> {
+                    Map<String, Object> test = new LinkedHashMap<>();
+                    test.put("testId", entry.getKey());
+                    test.putAll(entry.getValue());
+                    return test;
+                }).toList();
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("timestamp", System.currentTimeMillis());
+        event.put("event", EVENT_SUMMARY);
+        if (!tests.isEmpty()) {
+            event.put("processResources", tests);
+        }
+        if (!performanceMetrics.isEmpty()) {
+            event.put("performance", getPerformanceSummary());
+        }
+        return event;
+    }
+
+    private Map<String, Object> getPerformanceSummary() {
+        Map<String, Object> performance = new TreeMap<>();
+        performanceMetrics.forEach((name, statistics) -> {
+            Map<String, Object> metric = new LinkedHashMap<>();
+            synchronized (statistics) {
+                metric.put("count", statistics.getCount());
+                metric.put("min", statistics.getMin());
+                metric.put("avg", statistics.getAverage());
+                metric.put("max", statistics.getMax());
+            }
+            performance.put(name, metric);
+        });
+        return performance;
+    }
+
+    private void artifact(String type, String testId, Path path) {
+        if (path != null) {
+            Map<String, Object> event = newEvent(type, testId);
+            event.put("path", path.toAbsolutePath().normalize().toString());
+            enqueue(event);
+        }
+    }
+
+    private void putDriverInfo(Map<String, Object> event, WebDriver driver) {
+        if (driver instanceof RemoteWebDriver) {
+            RemoteWebDriver remoteWebDriver = (RemoteWebDriver) driver;
+            Capabilities capabilities = remoteWebDriver.getCapabilities();
+            event.put("browser", capabilities.getBrowserName());
+            event.put("browserVersion", capabilities.getBrowserVersion());
+            event.put("sessionId",
+                    String.valueOf(remoteWebDriver.getSessionId()));
+        } else if (driver != null) {
+            event.put("browser", driver.getClass().getSimpleName());
+        }
+    }
+
+    private Map<String, Object> newEvent(String type, String testId) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("timestamp", System.currentTimeMillis());
+        event.put("event", type);
+        event.put("testId", testId);
+        event.put("thread", Thread.currentThread().getName());
+        return event;
+    }
+
+    private void enqueue(Map<String, Object> event) {
+        if (!closed) {
+            queue.add(event);
+        }
+    }
+
+    private void writeEvents() {
+        try {
+            Path parent = logFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(logFile,
+                    UTF_8, CREATE, APPEND)) {
+                while (true) {
+                    Map<String, Object> event = queue.poll(POLL_TIMEOUT_MS,
+                            MILLISECONDS);
+                    if (event == null) {
+                        // Idle: make the events written so far visible
+                        writer.flush();
+                        continue;
+                    }
+                    if (event == END_OF_LOG) {
+                        break;
+                    }
+                    writer.write(gson.toJson(event));
+                    writer.newLine();
+                    if (queue.isEmpty()) {
+                        writer.flush();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Exception writing result log {}", logFile, e);
+            closed = true;
+        } catch (InterruptedException e) {
+            log.warn("Result log writer interrupted");
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
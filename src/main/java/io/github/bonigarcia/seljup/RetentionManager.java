@@ -0,0 +1,419 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+
+import io.github.bonigarcia.seljup.config.Config;
+
+/**
+ * Retention policy for the artifacts (screenshots, recordings, logs, reports)
+ * stored in the output folder. The artifacts are registered in an index file,
+ * and they are pruned (by size, age, and test result) at the beginning and at
+ * the end of the execution, without walking the output folder. File locks are
+ * held by a single channel per index, and the accesses of the same JVM to an
+ * index are serialized (since file locks are held on behalf of the JVM).
+ * <p>
+ * The executions split in several JVMs (e.g., Surefire forks) can share the
+ * same run using the configuration key {@code sel.jup.retention.run.id}.
+ * Besides, each live execution holds a lock on its own file in a runs folder
+ * (next to the index), and the artifacts registered after the start of the
+ * oldest live execution are never pruned.
+ *
+ * @author Boni Garcia
+ * @since 6.4.0
+ */
+public class RetentionManager implements AutoCloseable {
+
+    final Logger log = getLogger(lookup().lookupClass());
+
+    static final String INDEX_FILE_NAME = ".selenium-jupiter-index";
+    static final String INDEX_SEPARATOR = "\t";
+    static final String KIND_FAILED = "F";
+    static final String KIND_PASSED = "P";
+    static final String KIND_RUN = "R";
+    static final String RUNS_FOLDER_NAME = ".selenium-jupiter-runs";
+    static final String RUN_FILE_SEPARATOR = "-";
+    static final String RUN_FILE_SUFFIX = ".lock";
+    static final Map<Path, Object> INDEX_MONITORS = new ConcurrentHashMap<>();
+
+    // Run files locked in this JVM (a lock cannot be probed from the JVM that
+    // holds it, and closing another channel of the file would release it)
+    static final Set<Path> LOCKED_RUN_FILES = ConcurrentHashMap.newKeySet();
+
+    Config config;
+    Path indexFile;
+    Object indexMonitor;
+    FileChannel channel;
+    String runId;
+    long startTime;
+    Path runsFolder;
+    Path runFile;
+    FileChannel runChannel;
+    Set<Path> registered;
+    Thread pruneThread;
+
+    public RetentionManager(Config config) {
+        this.config = config;
+        this.startTime = System.currentTimeMillis();
+        String configuredRunId = config.getRetentionRunId();
+        this.runId = Config.isNullOrEmpty(configuredRunId)
+                ? String.valueOf(startTime)
+                : configuredRunId.trim();
+        this.registered = ConcurrentHashMap.newKeySet();
+        String outputFolder = config.getOutputFolder();
+        if (outputFolder.equalsIgnoreCase(OutputHandler.SUREFIRE_REPORTS_KEY)) {
+            outputFolder = OutputHandler.SUREFIRE_REPORTS_FOLDER;
+        } else if (outputFolder.isEmpty()) {
+            outputFolder = ".";
+        }
+        this.indexFile = new File(outputFolder, INDEX_FILE_NAME).toPath()
+                .toAbsolutePath().normalize();
+        this.indexMonitor = INDEX_MONITORS.computeIfAbsent(indexFile,
+                key -> new Object());
+        this.runsFolder = indexFile.resolveSibling(RUNS_FOLDER_NAME);
+
+        if (isEnabled()) {
+            lockRun();
+            pruneThread = new Thread(this::prune, "seljup-retention");
+            pruneThread.setDaemon(true);
+            pruneThread.start();
+        }
+    }
+
+    public boolean isEnabled() {
+        return config.getRetentionMaxSizeMb() > 0
+                || config.getRetentionMaxAgeDays() > 0
+                || config.getRetentionFailedOnlyAfterRuns() > 0;
+    }
+
+    public void registerTestArtifact(File file, boolean failed) {
+        register(file, failed ? KIND_FAILED : KIND_PASSED);
+    }
+
+    public void registerRunArtifact(File file) {
+        register(file, KIND_RUN);
+    }
+
+    @Override
+    public void close() {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            pruneThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        prune();
+        synchronized (indexMonitor) {
+            try {
+                if (channel != null) {
+                    channel.close();
+                }
+            } catch (IOException e) {
+                log.trace("Exception closing {} ({})", indexFile,
+                        e.getMessage());
+            }
+        }
+        unlockRun();
+    }
+
+    private void lockRun() {
+        try {
+            Files.createDirectories(runsFolder);
+            runFile = Files.createTempFile(runsFolder,
+                    startTime + RUN_FILE_SEPARATOR, RUN_FILE_SUFFIX);
+            runChannel = FileChannel.open(runFile, WRITE);
+            runChannel.lock();
+            LOCKED_RUN_FILES.add(runFile);
+        } catch (IOException e) {
+            log.warn("Exception locking run file in {}", runsFolder, e);
+        }
+    }
+
+    private void unlockRun() {
+        if (runFile == null) {
+            return;
+        }
+        try {
+            // Closing the channel releases its lock
+            runChannel.close();
+            LOCKED_RUN_FILES.remove(runFile);
+            Files.deleteIfExists(runFile);
+        } catch (IOException e) {
+            log.trace("Exception deleting {} ({})", runFile, e.getMessage());
+        }
+    }
+
+    /**
+     * Start time of the oldest execution (other than this one) still alive,
+     * i.e., holding the lock of its run file. The run files of finished
+     * executions (e.g., killed before closing) are deleted.
+     */
+    long getOldestLiveRunStart() {
+        long oldestStart = Long.MAX_VALUE;
+        if (!Files.isDirectory(runsFolder)) {
+            return oldestStart;
+        }
+        try (DirectoryStream<Path> runFiles = Files
+                .newDirectoryStream(runsFolder, "*" + RUN_FILE_SUFFIX)) {
+            for (Path file : runFiles) {
+                if (file.equals(runFile)) {
+                    continue;
+                }
+                String fileName = file.getFileName().toString();
+                long start;
+                try {
+                    start = Long.parseLong(fileName.substring(0,
+                            fileName.indexOf(RUN_FILE_SEPARATOR)));
+                } catch (Exception e) {
+                    log.trace("Ignoring invalid run file {}", file);
+                    continue;
+                }
+                if (isLive(file)) {
+                    oldestStart = Math.min(oldestStart, start);
+                } else {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Exception reading live runs in {}", runsFolder, e);
+        }
+        return oldestStart;
+    }
+
+    private boolean isLive(Path file) {
+        if (LOCKED_RUN_FILES.contains(file)) {
+            return true;
+        }
+        try (FileChannel fileChannel = FileChannel.open(file, WRITE)) {
+            FileLock lock = fileChannel.tryLock();
+            if (lock == null) {
+                return true;
+            }
+            lock.release();
+            return false;
+        } catch (OverlappingFileLockException e) {
+            return true;
+        } catch (IOException e) {
+            // In doubt (e.g., no permissions), the run is considered alive
+            return Files.exists(file);
+        }
+    }
+
+    void prune() {
+        synchronized (indexMonitor) {
+            try (FileLock lock = getChannel().lock()) {
+                prune(readIndex(channel));
+            } catch (Exception e) {
+                log.warn("Exception applying retention policy in {}",
+                        indexFile, e);
+            }
+        }
+    }
+
+    private void prune(List<Entry> entries) throws IOException {
+        List<Entry> kept = new ArrayList<>();
+        List<Entry> toDelete = new ArrayList<>();
+
+        // Runs not to be pruned by test result (the most recently started,
+        // since the run ids can be configured)
+        Map<String, Long> runStarts = new HashMap<>();
+        entries.forEach(entry -> runStarts.merge(entry.runId,
+                entry.timestamp, Math::min));
+        int failedOnlyAfterRuns = config.getRetentionFailedOnlyAfterRuns();
+        Set<String> recentRuns = runStarts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long> comparingByValue()
+                        .thenComparing(Map.Entry.comparingByKey())
+                        .reversed())
+                .limit(failedOnlyAfterRuns).map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+
+        // Artifacts of the live runs (including this one)
+        long oldestLiveStart = getOldestLiveRunStart();
+
+        long maxAgeMs = TimeUnit.DAYS
+                .toMillis(config.getRetentionMaxAgeDays());
+        long now = System.currentTimeMillis();
+        for (Entry entry : entries) {
+            if (!Files.exists(entry.path)) {
+                continue;
+            }
+            boolean tooOld = maxAgeMs > 0
+                    && now - entry.timestamp > maxAgeMs;
+            boolean passedInOldRun = failedOnlyAfterRuns > 0
+                    && entry.kind.equals(KIND_PASSED)
+                    && !recentRuns.contains(entry.runId);
+            if (!isLive(entry, oldestLiveStart)
+                    && (tooOld || passedInOldRun)) {
+                toDelete.add(entry);
+            } else {
+                kept.add(entry);
+            }
+        }
+
+        // Size budget (oldest first, never the live runs)
+        long maxSize = config.getRetentionMaxSizeMb() * 1024L * 1024L;
+        if (maxSize > 0) {
+            long totalSize = 0;
+            for (Entry entry : kept) {
+                totalSize += entry.size();
+            }
+            kept.sort(Comparator.comparingLong(entry -> entry.timestamp));
+            for (Entry entry : new ArrayList<>(kept)) {
+                if (totalSize <= maxSize) {
+                    break;
+                }
+                if (!isLive(entry, oldestLiveStart)) {
+                    totalSize -= entry.size();
+                    kept.remove(entry);
+                    toDelete.add(entry);
+                }
+            }
+        }
+
+        for (Entry entry : toDelete) {
+            log.trace("Deleting artifact {} (retention policy)",
+                    entry.path);
+            Files.deleteIfExists(entry.path);
+        }
+        if (!toDelete.isEmpty()) {
+            log.debug("Deleted {} artifacts from output folder",
+                    toDelete.size());
+        }
+        writeIndex(channel, kept);
+    }
+
+    private boolean isLive(Entry entry, long oldestLiveStart) {
+        return entry.runId.equals(runId) || entry.timestamp >= oldestLiveStart;
+    }
+
+    private void register(File file, String kind) {
+        if (!isEnabled() || file == null) {
+            return;
+        }
+        Path path = file.toPath().toAbsolutePath().normalize();
+        if (!registered.add(path)) {
+            return;
+        }
+        Entry entry = new Entry(runId, System.currentTimeMillis(), kind,
+                path);
+        synchronized (indexMonitor) {
+            try (FileLock lock = getChannel().lock()) {
+                channel.position(channel.size());
+                channel.write(
+                        ByteBuffer.wrap(entry.toLine().getBytes(UTF_8)));
+            } catch (IOException | OverlappingFileLockException e) {
+                log.warn("Exception registering {} in {}", path, indexFile,
+                        e);
+            }
+        }
+    }
+
+    private FileChannel getChannel() throws IOException {
+        if (channel == null || !channel.isOpen()) {
+            Files.createDirectories(indexFile.getParent());
+            channel = FileChannel.open(indexFile, CREATE, READ, WRITE);
+        }
+        return channel;
+    }
+
+    private List<Entry> readIndex(FileChannel channel) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        channel.position(0);
+        String content = new String(
+                Channels.newInputStream(channel).readAllBytes(), UTF_8);
+        for (String line : content.split("\n")) {
+            String[] fields = line.split(INDEX_SEPARATOR, 4);
+            if (fields.length == 4) {
+                try {
+                    entries.add(new Entry(fields[0], Long.parseLong(fields[1]),
+                            fields[2], Path.of(fields[3])));
+                } catch (Exception e) {
+                    log.trace("Ignoring invalid index entry {}", line);
+                }
+            }
+        }
+        return entries;
+    }
+
+    private void writeIndex(FileChannel channel, List<Entry> entries)
+            throws IOException {
+        StringBuilder content = new StringBuilder();
+        entries.forEach(entry -> content.append(entry.toLine()));
+        channel.truncate(0);
+        channel.position(0);
+        channel.write(ByteBuffer.wrap(content.toString().getBytes(UTF_8)));
+    }
+
+    static class Entry {
+        String runId;
+        long timestamp;
+        String kind;
+        Path path;
+
+        Entry(String runId, long timestamp, String kind, Path path) {
+            this.runId = runId;
+            this.timestamp = timestamp;
+            this.kind = kind;
+            this.path = path;
+        }
+
+        long size() {
+            try {
+                return Files.size(path);
+            } catch (IOException e) {
+                return 0;
+            }
+        }
+
+        String toLine() {
+            return String.join(INDEX_SEPARATOR, runId,
+                    String.valueOf(timestamp), kind, path.toString()) + "\n";
+        }
+    }
+
+}
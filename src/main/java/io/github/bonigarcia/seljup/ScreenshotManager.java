@@ -51,12 +51,19 @@ public class ScreenshotManager {
     ExtensionContext extensionContext;
     Config config;
     OutputHandler outputHandler;
+    ReportManager reportManager;
 
     public ScreenshotManager(ExtensionContext extensionContext, Config config,
             OutputHandler outputHandler) {
+        this(extensionContext, config, outputHandler, null);
+    }
+
+    public ScreenshotManager(ExtensionContext extensionContext, Config config,
+            OutputHandler outputHandler, ReportManager reportManager) {
         this.extensionContext = extensionContext;
         this.config = config;
         this.outputHandler = outputHandler;
+        this.reportManager = reportManager;
     }
 
     boolean isScreenshotRequired() {
@@ -74,29 +81,32 @@ public class ScreenshotManager {
                 driver -> makeScreenshotIfRequired(driver, optionalTest));
     }
 
-    void makeScreenshotIfRequired(WebDriver driver,
+    Optional<File> makeScreenshotIfRequired(WebDriver driver,
             Optional<ExtentTest> optionalTest) {
+        File screenshotFile = null;
         if (isScreenshotRequired() && driver != null) {
             String base64Screenshot = getBase64Screenshot(driver);
             String screenshotFormat = config.getScreenshotFormat();
             switch (screenshotFormat) {
             case PNG_KEY:
-                optionalTest.ifPresent(test -> test
-                        .addScreenCaptureFromBase64String(base64Screenshot));
-                logFileScreenshot(driver);
+                screenshotFile = logFileScreenshot(driver);
+                File pngFile = screenshotFile;
+                optionalTest.ifPresent(
+                        test -> addToReport(test, base64Screenshot, pngFile));
                 break;
             case BASE64_KEY:
                 logBase64Screenshot(base64Screenshot);
                 break;
             case BASE64_AND_PNG_KEY:
                 logBase64Screenshot(base64Screenshot);
-                logFileScreenshot(driver);
+                screenshotFile = logFileScreenshot(driver);
                 break;
             default:
                 log.warn("Invalid screenshot format {}", screenshotFormat);
                 break;
             }
         }
+        return Optional.ofNullable(screenshotFile);
     }
 
     public static String getBase64Screenshot(WebDriver driver) {
@@ -113,17 +123,32 @@ public class ScreenshotManager {
         }
     }
 
-    void logFileScreenshot(WebDriver driver) {
+    void addToReport(ExtentTest test, String base64Screenshot,
+            File screenshotFile) {
+        if (reportManager == null) {
+            test.addScreenCaptureFromBase64String(base64Screenshot);
+        } else if (screenshotFile != null && base64Screenshot
+                .length() > config.getReportInlineMaxSize()) {
+            // Already stored as PNG: the report links to that file
+            reportManager.addScreenshot(test, screenshotFile, null);
+        } else {
+            reportManager.addScreenshot(test, base64Screenshot, null, null);
+        }
+    }
+
+    File logFileScreenshot(WebDriver driver) {
         try {
             File screenshotFile = ((TakesScreenshot) driver)
                     .getScreenshotAs(FILE);
             File destFile = outputHandler.getScreenshotFile(driver);
             log.trace("Creating screenshot for {} in {}", driver, destFile);
             copyFile(screenshotFile, destFile);
+            return destFile;
 
         } catch (Exception e) {
             log.trace("Exception getting screenshot as file", e);
         }
+        return null;
     }
 
 }
@@ -17,10 +17,15 @@
 package io.github.bonigarcia.seljup;
 
 import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodHandles.publicLookup;
 import static org.slf4j.LoggerFactory.getLogger;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.reflect.Parameter;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
@@ -43,45 +48,48 @@ public class SelenideHandler {
     static final String SELENIDE_PROXY_CLASS = "com.codeborne.selenide.proxy.SelenideProxyServer";
 
     AnnotationsReader annotationsReader;
+    Map<Parameter, Optional<SelenideConfiguration>> configurationCache;
 
     public SelenideHandler(AnnotationsReader annotationsReader) {
         this.annotationsReader = annotationsReader;
+        this.configurationCache = new ConcurrentHashMap<>();
     }
 
     public boolean isSelenide(Class<?> type) {
-        return type.getCanonicalName().equals(SELENIDE_DRIVER_CLASS);
+        return type.getName().equals(SELENIDE_DRIVER_CLASS);
+    }
+
+    public boolean isAvailable() {
+        return SelenideHandles.INSTANCE != null;
     }
 
     public boolean useCustomSelenideConfig(Parameter parameter,
             Optional<Object> testInstance) {
-        SelenideConfiguration selenideConfiguration = parameter
-                .getAnnotation(SelenideConfiguration.class);
-        SelenideConfig globalConfig = annotationsReader.getFromAnnotatedField(
-                testInstance, SelenideConfiguration.class,
-                SelenideConfig.class);
-        return selenideConfiguration != null || globalConfig != null;
+        if (!isAvailable()) {
+            return false;
+        }
+        return getSelenideConfiguration(parameter).isPresent()
+                || getGlobalConfig(testInstance) != null;
     }
 
     public Object createSelenideDriver(WebDriver driver, Parameter parameter,
             Optional<Object> testInstance) {
+        SelenideHandles handles = SelenideHandles.INSTANCE;
+        if (handles == null) {
+            log.warn("Selenide is not available in the classpath");
+            return null;
+        }
         Object object = null;
         try {
             Object config = getSelenideConfig(testInstance, parameter);
             if (driver == null) {
-                object = Class.forName(SELENIDE_DRIVER_CLASS)
-                        .getDeclaredConstructor(
-                                Class.forName(SELENIDE_CONFIG_INTERFACE))
-                        .newInstance(config);
+                object = handles.driverConstructor.invoke(config);
             } else {
-                object = Class.forName(SELENIDE_DRIVER_CLASS)
-                        .getDeclaredConstructor(
-                                Class.forName(SELENIDE_CONFIG_INTERFACE),
-                                WebDriver.class,
-                                Class.forName(SELENIDE_PROXY_CLASS))
-                        .newInstance(config, driver, null);
+                object = handles.driverWithWebDriverConstructor.invoke(config,
+                        driver, null);
             }
 
-        } catch (Exception e) {
+        } catch (Throwable e) {
             log.warn("Exception creating SelenideDriver object", e);
         }
 
@@ -90,44 +98,106 @@ public class SelenideHandler {
 
     public Object getSelenideConfig(Optional<Object> testInstance,
             Parameter parameter) {
+        SelenideHandles handles = SelenideHandles.INSTANCE;
+        if (handles == null) {
+            log.warn("Selenide is not available in the classpath");
+            return null;
+        }
         Object config = null;
         try {
-            config = Class.forName(SELENIDE_CONFIG_CLASS)
-                    .getDeclaredConstructor().newInstance();
+            config = handles.configConstructor.invoke();
 
             if (parameter != null) {
-                SelenideConfiguration selenideConfiguration = parameter
-                        .getAnnotation(SelenideConfiguration.class);
-
                 // @SelenideConfiguration as parameter
-                if (selenideConfiguration != null) {
-                    Class.forName(SELENIDE_CONFIG_CLASS)
-                            .getDeclaredMethod("browser", String.class)
-                            .invoke(config, selenideConfiguration.browser());
-                    Class.forName(SELENIDE_CONFIG_CLASS)
-                            .getDeclaredMethod("headless", boolean.class)
-                            .invoke(config, selenideConfiguration.headless());
-                    Class.forName(SELENIDE_CONFIG_CLASS)
-                            .getDeclaredMethod("browserBinary", String.class)
-                            .invoke(config,
-                                    selenideConfiguration.browserBinary());
+                Optional<SelenideConfiguration> configuration = getSelenideConfiguration(
+                        parameter);
+                if (configuration.isPresent()) {
+                    SelenideConfiguration selenideConfiguration = configuration
+                            .get();
+                    handles.browser.invoke(config,
+                            selenideConfiguration.browser());
+                    handles.headless.invoke(config,
+                            selenideConfiguration.headless());
+                    handles.browserBinary.invoke(config,
+                            selenideConfiguration.browserBinary());
                 }
 
                 // @SelenideConfiguration as field
-                SelenideConfig globalConfig = annotationsReader
-                        .getFromAnnotatedField(testInstance,
-                                SelenideConfiguration.class,
-                                SelenideConfig.class);
+                Object globalConfig = getGlobalConfig(testInstance);
                 if (globalConfig != null) {
                     config = globalConfig;
                 }
             }
 
-        } catch (Exception e) {
+        } catch (Throwable e) {
             log.warn("Exception getting Selenide Config", e);
         }
 
         return config;
     }
 
+    private Optional<SelenideConfiguration> getSelenideConfiguration(
+            Parameter parameter) {
+        return configurationCache.computeIfAbsent(parameter,
+                key -> Optional.ofNullable(
+                        key.getAnnotation(SelenideConfiguration.class)));
+    }
+
+    private Object getGlobalConfig(Optional<Object> testInstance) {
+        return annotationsReader.getFromAnnotatedField(testInstance,
+                SelenideConfiguration.class, SelenideConfig.class);
+    }
+
+    /**
+     * Method handles of the Selenide API, resolved once (when first used).
+     * The instance is null when Selenide is not in the classpath.
+     */
+    static final class SelenideHandles {
+
+        static final SelenideHandles INSTANCE = create();
+
+        MethodHandle configConstructor;
+        MethodHandle driverConstructor;
+        MethodHandle driverWithWebDriverConstructor;
+        MethodHandle browser;
+        MethodHandle headless;
+        MethodHandle browserBinary;
+
+        private static SelenideHandles create() {
+            try {
+                Lookup lookup = publicLookup();
+                Class<?> driverClass = Class.forName(SELENIDE_DRIVER_CLASS);
+                Class<?> configInterface = Class
+                        .forName(SELENIDE_CONFIG_INTERFACE);
+                Class<?> configClass = Class.forName(SELENIDE_CONFIG_CLASS);
+                Class<?> proxyClass = Class.forName(SELENIDE_PROXY_CLASS);
+
+                SelenideHandles handles = new SelenideHandles();
+                handles.configConstructor = lookup.unreflectConstructor(
+                        configClass.getDeclaredConstructor());
+                handles.driverConstructor = lookup.unreflectConstructor(
+                        driverClass.getDeclaredConstructor(configInterface));
+                handles.driverWithWebDriverConstructor = lookup
+                        .unreflectConstructor(driverClass
+                                .getDeclaredConstructor(configInterface,
+                                        WebDriver.class, proxyClass));
+                handles.browser = lookup.unreflect(configClass
+                        .getDeclaredMethod("browser", String.class));
+                handles.headless = lookup.unreflect(configClass
+                        .getDeclaredMethod("headless", boolean.class));
+                handles.browserBinary = lookup.unreflect(configClass
+                        .getDeclaredMethod("browserBinary", String.class));
+                return handles;
+
+            } catch (ClassNotFoundException | NoClassDefFoundError e) {
+                getLogger(lookup().lookupClass()).debug(
+                        "Selenide is not available in the classpath");
+            } catch (Exception e) {
+                getLogger(lookup().lookupClass())
+                        .warn("Exception reading the Selenide API", e);
+            }
+            return null;
+        }
+    }
+
 }
@@ -39,16 +39,28 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -57,6 +69,7 @@ import org.junit.jupiter.api.TestTemplate;
 import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ConditionEvaluationResult;
 import org.junit.jupiter.api.extension.ExecutionCondition;
@@ -69,18 +82,22 @@ import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
 import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
 import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
 import org.junit.jupiter.api.extension.TestWatcher;
+import org.junit.jupiter.api.parallel.ResourceLocksProvider;
 import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
+import org.opentest4j.AssertionFailedError;
 import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
 import org.openqa.selenium.devtools.DevTools;
 import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.slf4j.Logger;
 
-import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
-import com.aventstack.extentreports.reporter.ExtentSparkReporter;
-import com.aventstack.extentreports.reporter.configuration.Theme;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
 import com.google.gson.Gson;
 
 import io.github.bonigarcia.seljup.BrowsersTemplate.Browser;
@@ -94,39 +111,71 @@ import io.github.bonigarcia.wdm.config.DriverManagerType;
  * @author Boni Garcia
  * @since 1.0.0
  */
-public class SeleniumJupiter implements BeforeEachCallback, ParameterResolver,
-        AfterTestExecutionCallback, AfterEachCallback, AfterAllCallback,
+public class SeleniumJupiter implements BeforeAllCallback, BeforeEachCallback,
+        ParameterResolver, AfterTestExecutionCallback, AfterEachCallback,
+        AfterAllCallback,
         TestTemplateInvocationContextProvider, ExecutionCondition,
-        TestExecutionExceptionHandler, TestWatcher {
+        TestExecutionExceptionHandler, TestWatcher, ResourceLocksProvider {
 
     final Logger log = getLogger(lookup().lookupClass());
 
     static final String CLASSPATH_PREFIX = "classpath:";
     static final String DEVTOOLS_CLASS = "org.openqa.selenium.devtools.DevTools";
+    static final String NETWORK_RECORDER_CLASS = "io.github.bonigarcia.seljup.NetworkRecorder";
     static final String HTMLUNIT_DRIVER_CLASS = "org.openqa.selenium.htmlunit.HtmlUnitDriver";
     static final String APPIUM_DRIVER_CLASS = "io.appium.java_client.AppiumDriver";
     static final String START_RECORDING = "startRecording";
     static final String STOP_RECORDING = "stopRecording";
     static final String STORE_NAMESPACE = "report-store";
     static final String STORE_NAME = "reports";
-    static final String REPORT_DATE_PLACEHOLDER = "{date}";
+    static final String STORE_RESULT_LOG = "result-log";
+    static final String STORE_RETENTION = "retention";
+    static final String STORE_HTMLUNIT_POOL = "htmlunit-pool";
+    static final String STORE_DOCKER_POOL = "docker-pool";
+    static final String STORE_DOCKER_PRELOADER = "docker-preloader";
+    static final String STORE_ADMISSION = "admission";
+    static final String STORE_QUOTA = "quota";
     static final String FORMATTED_INFO = "<pre>%s:" + System.lineSeparator()
             + "%s</pre>";
 
+    static final long DEVTOOLS_CLOSE_TIMEOUT_SEC = 10;
+
     static final ConditionEvaluationResult ENABLED = ConditionEvaluationResult
             .enabled("Test enabled");
 
+    static final long ASYNC_KEEP_ALIVE_SEC = 60;
+
+    // Shared by all the extension instances of the JVM (created with the
+    // configuration of the first one using them). The browser data of failed
+    // tests is captured in its own pool, so it does not wait for other
+    // background tasks (e.g., Docker image pulls)
+    static ExecutorService asyncExecutor;
+    static ExecutorService captureExecutor;
+
     Config config;
     Map<String, List<WebDriverManager>> wdmMap;
-    List<DevTools> devToolsList;
+    Map<String, Map<WebDriver, DevTools>> devToolsMap;
+    Map<String, NavigableMap<Integer, WebDriver>> parameterDriverMap;
     AnnotationsReader annotationsReader;
     List<List<Browser>> browserListList;
     Map<String, List<Browser>> browserListMap;
-    OutputHandler outputHandler;
+    Map<String, Map<WebDriver, OutputHandler>> outputHandlerMap;
     URL urlFromAnnotation;
     SelenideHandler selenideHandler;
-    ExtentReports report;
+    ReportManager reportManager;
+    ResultLogger resultLogger;
+    RetentionManager retentionManager;
     Map<String, ExtentTest> testMap;
+    Map<String, List<LogStreamer>> logStreamerMap;
+    Map<String, List<NetworkRecorder>> networkRecorderMap;
+    Map<String, List<PerformanceCollector>> performanceCollectorMap;
+    Map<String, List<ProcessResourceMonitor>> processMonitorMap;
+    Map<String, List<SessionQuota.Lease>> quotaLeaseMap;
+    Map<String, List<TraceRecorder>> traceRecorderMap;
+    Map<String, List<WebDriver>> htmlUnitDriverMap;
+    Map<String, List<WebDriver>> dockerLeaseMap;
+    Map<String, List<BrowserBrokerClient.Lease>> brokerLeaseMap;
+    Map<String, List<ElasticDriverList>> elasticListMap;
 
     public SeleniumJupiter() {
         config = new Config();
@@ -134,42 +183,79 @@ public class SeleniumJupiter implements BeforeEachCallback, ParameterResolver,
         annotationsReader = new AnnotationsReader();
         browserListList = new ArrayList<>();
         browserListMap = new ConcurrentHashMap<>();
-        devToolsList = new ArrayList<>();
+        devToolsMap = new ConcurrentHashMap<>();
+        parameterDriverMap = new ConcurrentHashMap<>();
+        outputHandlerMap = new ConcurrentHashMap<>();
         selenideHandler = new SelenideHandler(annotationsReader);
-        testMap = new HashMap<>();
+        testMap = new ConcurrentHashMap<>();
+        logStreamerMap = new ConcurrentHashMap<>();
+        networkRecorderMap = new ConcurrentHashMap<>();
+        performanceCollectorMap = new ConcurrentHashMap<>();
+        processMonitorMap = new ConcurrentHashMap<>();
+        quotaLeaseMap = new ConcurrentHashMap<>();
+        traceRecorderMap = new ConcurrentHashMap<>();
+        htmlUnitDriverMap = new ConcurrentHashMap<>();
+        dockerLeaseMap = new ConcurrentHashMap<>();
+        brokerLeaseMap = new ConcurrentHashMap<>();
+        elasticListMap = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void beforeAll(ExtensionContext extensionContext) throws Exception {
+        if (!config.isDockerPreload()) {
+            return;
+        }
+        DockerImagePreloader preloader = extensionContext.getRoot()
+                .getStore(ExtensionContext.Namespace.create(STORE_NAMESPACE))
+                .computeIfAbsent(STORE_DOCKER_PRELOADER,
+                        key -> new DockerImagePreloader(
+                                getAsyncExecutor(config)),
+                        DockerImagePreloader.class);
+
+        // Browsers in Docker of the test class and its test templates
+        Class<?> testClass = extensionContext.getRequiredTestClass();
+        annotationsReader.getDockerBrowsers(testClass).forEach(
+                dockerBrowser -> preloader.preload(dockerBrowser.type(),
+                        dockerBrowser.version()));
+        if (!AnnotationSupport
+                .findAnnotatedMethods(testClass, TestTemplate.class,
+                        HierarchyTraversalMode.TOP_DOWN)
+                .isEmpty()) {
+            getTemplateBrowsers().filter(Browser::isDockerBrowser)
+                    .forEach(browser -> preloader.preload(
+                            browser.toBrowserType(), browser.getVersion()));
+        }
+        preloader.await(config.getDockerPreloadTimeoutSec());
     }
 
     @Override
     public void beforeEach(ExtensionContext extensionContext) throws Exception {
         Store store = extensionContext.getRoot()
                 .getStore(ExtensionContext.Namespace.create(STORE_NAMESPACE));
-        report = store.get(STORE_NAME, ExtentReports.class);
-        if (report == null) {
-            report = new ExtentReports();
-            store.put(STORE_NAME, report);
-
-            String outputFolder = config.getOutputFolder();
-            String reportFileName = config.getReportFileName();
-            if (reportFileName.contains(REPORT_DATE_PLACEHOLDER)) {
-                LocalDateTime now = LocalDateTime.now();
-                DateTimeFormatter formatter = DateTimeFormatter
-                        .ofPattern("yyyyMMdd-HHmmss");
-                String timestamp = now.format(formatter);
-                reportFileName = reportFileName.replace(REPORT_DATE_PLACEHOLDER,
-                        timestamp);
-            }
-
-            File reportFile = new File(outputFolder, reportFileName);
-            ExtentSparkReporter htmlReporter = new ExtentSparkReporter(
-                    reportFile);
-            htmlReporter.config().setTheme(Theme.STANDARD); // Dark is possible
-            report.attachReporter(htmlReporter);
-
-            Runtime.getRuntime().addShutdownHook(new Thread(report::flush));
+        retentionManager = store.computeIfAbsent(STORE_RETENTION,
+                key -> new RetentionManager(config), RetentionManager.class);
+        reportManager = store.computeIfAbsent(STORE_NAME,
+                key -> new ReportManager(config), ReportManager.class);
+        retentionManager
+                .registerRunArtifact(reportManager.getCurrentReportFile());
+
+        ExtentTest test = reportManager.createTest(extensionContext);
+        testMap.put(extensionContext.getUniqueId(), test);
+
+        if (config.isResultLog()) {
+            resultLogger = store.computeIfAbsent(STORE_RESULT_LOG,
+                    key -> new ResultLogger(config), ResultLogger.class);
+            resultLogger.testStarted(extensionContext.getUniqueId(),
+                    test.getModel().getName());
+            retentionManager
+                    .registerRunArtifact(resultLogger.getLogFile().toFile());
         }
 
-        testMap.put(extensionContext.getUniqueId(),
-                createExtentTest(report, extensionContext));
+        // In single session, the browsers outlive the tests, and so the
+        // tracing (stopped at the end of each test) is started again
+        if (config.isTracing() && isSingleSession(extensionContext)) {
+            getContextIds(extensionContext).forEach(this::restartTracing);
+        }
     }
 
     @Override
@@ -189,6 +275,7 @@ public class SeleniumJupiter implements BeforeEachCallback, ParameterResolver,
 
         return (WebDriver.class.isAssignableFrom(type)
                 || type.equals(DevTools.class)
+                || type.equals(NetworkRecorder.class)
                 || (type.equals(List.class) && dockerBrowser.isPresent()
                         && isGeneric(parameterizedTypeName))
                 || selenideHandler.isSelenide(type))
@@ -212,9 +299,15 @@ public class SeleniumJupiter implements BeforeEachCallback, ParameterResolver,
         case DEVTOOLS_CLASS:
             return resolveDevTools(contextId, index);
 
+        // Network recorder
+        case NETWORK_RECORDER_CLASS:
+            return resolveNetworkRecorder(extensionContext, contextId,
+                    parameter, index);
+
         // HtmlUnit
         case HTMLUNIT_DRIVER_CLASS:
-            return resolveHtmlUnit(type, extensionContext, parameter);
+            return resolveHtmlUnit(type, extensionContext, contextId,
+                    parameter);
 
         // Appium
         case APPIUM_DRIVER_CLASS:
@@ -233,6 +326,7 @@ public class SeleniumJupiter implements BeforeEachCallback, ParameterResolver,
         WebDriverManager wdm = null;
         Browser browser = null;
         int browserNumber = 0;
+        boolean admission = false;
 
         boolean isGeneric = isGeneric(type);
         boolean isSelenide = selenideHandler.isSelenide(type);
@@ -251,6 +345,7 @@ public class SeleniumJupiter implements BeforeEachCallback, ParameterResolver,
             WebDriver driver = wdmMap.get(contextId).get(index).getWebDriver();
             if (driver != null) {
                 log.trace("Returning driver at index {}: {}", index, driver);
+                putDriverInMap(contextId, index, driver);
                 return driver;
             }
         }
@@ -259,30 +354,83 @@ public class SeleniumJupiter implements BeforeEachCallback, ParameterResolver,
             wdm = config.getManager();
 
         } else if (dockerBrowser.isPresent()) { // Docker
+            if (isBrokerLeasable(extensionContext, dockerBrowser.get(), type,
+                    isSelenide)) {
+                Optional<Capabilities> dockerCaps = getCapabilities(
+                        extensionContext, parameter,
+                        Optional.of(dockerBrowser.get().type()),
+                        Optional.empty(), Optional.empty());
+                dockerCaps.ifPresent(capabilities -> addDockerDefaultArguments(
+                        dockerBrowser.get(), capabilities));
+                Optional<WebDriver> driver = leaseBrokerBrowser(
+                        extensionContext, contextId, parameter, index,
+                        dockerBrowser.get().type(),
+                        dockerBrowser.get().version(), true, dockerCaps);
+                if (driver.isPresent()) {
+                    return driver.get();
+                }
+            }
+            if (isDockerReusable(extensionContext, dockerBrowser.get(), type,
+                    isSelenide)) {
+                Optional<Capabilities> dockerCaps = getCapabilities(
+                        extensionContext, parameter,
+                        Optional.of(dockerBrowser.get().type()),
+                        Optional.empty(), Optional.empty());
+                if (dockerCaps.isPresent()) {
+                    return leaseDockerBrowser(extensionContext, contextId,
+                            parameter, index, dockerBrowser.get(),
+                            dockerCaps.get());
+                }
+            }
             if (dockerBrowser.get().size() > 0) {
                 browserNumber = dockerBrowser.get().size();
+                if (config.isDockerElastic() && !isSelenide
+                        && !isSingleSession(extensionContext)) {
+                    return startElasticDockerList(extensionContext, contextId,
+                            parameter, index, dockerBrowser.get());
+                }
             }
             wdm = getManagerForDocker(extensionContext, parameter,
                     dockerBrowser.get());
+            admission = true;
 
         } else if (url.isPresent() && caps.isPresent()) { // Remote
             wdm = getManagerForRemote(url.get(), caps.get());
 
         } else if ((isGeneric || isSelenide) && !isOpera) { // Template
             browser = getBrowser(contextId, index);
+            if (browser != null && !url.isPresent()
+                    && browser.getRemoteUrl() == null
+                    && isBrokerLeasable(extensionContext, null, type,
+                            isSelenide)) {
+                Optional<WebDriver> driver = leaseBrokerBrowser(
+                        extensionContext, contextId, parameter, index,
+                        browser.toBrowserType(), browser.getVersion(),
+                        browser.isDockerBrowser(),
+                        getCapabilities(extensionContext, parameter,
+                                Optional.of(browser.toBrowserType()),
+                                Optional.of(browser),
+                                Optional.ofNullable(browser.getBinary())));
+                if (driver.isPresent()) {
+                    return driver.get();
+                }
+            }
             wdm = getManagerForTemplate(extensionContext, parameter, browser,
                     url);
+            admission = !url.isPresent()
+                    && (browser == null || browser.getRemoteUrl() == null);
 
         } else { // Local
             wdm = getManagerForLocal(extensionContext, parameter, type,
                     isGeneric, isOpera, binary);
+            admission = true;
         }
 
         // Output folder
-        outputHandler = new OutputHandler(extensionContext, getConfig(),
-                parameter);
-        wdm.dockerRecordingPrefix(outputHandler.getPrefix());
-        wdm.dockerRecordingOutput(outputHandler.getOutputFolder());
+        OutputHandler driverOutputHandler = new OutputHandler(
+                extensionContext, getConfig(), parameter);
+        wdm.dockerRecordingPrefix(driverOutputHandler.getPrefix());
+        wdm.dockerRecordingOutput(driverOutputHandler.getOutputFolder());
 
         putManagerInMap(contextId, wdm);
 
@@ -300,8 +448,555 @@ public class SeleniumJupiter implements BeforeEachCallback, ParameterResolver,
             }
         }
 
-        return getObjectFromWdm(wdm, browser, browserNumber, isSelenide,
-                parameter, testInstance);
+        Object object;
+        long start;
+        if (admission) {
+            acquireQuota(extensionContext, contextId, browserNumber);
+        }
+        try (SessionAdmission.Reservation reservation = admission
+                ? getSessionAdmission(extensionContext)
+                        .admit(extensionContext.getUniqueId(), browserNumber)
+                : null) {
+            start = System.currentTimeMillis();
+            object = getObjectFromWdm(wdm, browser, browserNumber, isSelenide,
+                    parameter, testInstance);
+        }
+        putDriverInMap(contextId, index, wdm.getWebDriver());
+        putOutputHandlerInMap(contextId, wdm.getWebDriverList(),
+                driverOutputHandler);
+        if (resultLogger != null) {
+            long duration = System.currentTimeMillis() - start;
+            for (WebDriver driver : wdm.getWebDriverList()) {
+                resultLogger.driverCreated(extensionContext.getUniqueId(),
+                        driver, duration);
+            }
+        }
+        if (config.isLogStreaming()) {
+            startLogStreaming(contextId, wdm, driverOutputHandler);
+        }
+        if (config.isProcessAccounting()) {
+            startProcessAccounting(contextId, wdm.getWebDriverList());
+        }
+        startDevToolsFeatures(contextId, parameter, wdm.getWebDriverList(),
+                driverOutputHandler);
+        return object;
+    }
+
+    private void startDevToolsFeatures(String contextId, Parameter parameter,
+            List<WebDriver> drivers, OutputHandler driverOutputHandler) {
+        Optional<NetworkProfile> networkProfile = annotationsReader
+                .getNetworkProfile(parameter);
+        if (networkProfile.isPresent()) {
+            applyNetworkProfile(contextId, drivers, networkProfile.get());
+        }
+        Optional<CollectPerformance> collectPerformance = annotationsReader
+                .getCollectPerformance(parameter);
+        if (collectPerformance.isPresent()) {
+            startPerformanceCollection(contextId, drivers,
+                    collectPerformance.get());
+        }
+        if (config.isTracing()) {
+            startTracing(contextId, drivers, driverOutputHandler);
+        }
+    }
+
+    private boolean isDockerReusable(ExtensionContext extensionContext,
+            DockerBrowser dockerBrowser, Class<?> type, boolean isSelenide) {
+        return config.isDockerReuse() && dockerBrowser.size() == 0
+                && !dockerBrowser.recording() && !config.isRecording()
+                && !config.isRecordingWhenFailure() && !isSelenide
+                && type.isAssignableFrom(RemoteWebDriver.class)
+                && !isSingleSession(extensionContext);
+    }
+
+    private boolean isBrokerLeasable(ExtensionContext extensionContext,
+            DockerBrowser dockerBrowser, Class<?> type, boolean isSelenide) {
+        return config.isBroker()
+                && (dockerBrowser == null || (dockerBrowser.size() == 0
+                        && !dockerBrowser.recording()))
+                && !config.isRecording() && !config.isRecordingWhenFailure()
+                && !isSelenide && type.isAssignableFrom(RemoteWebDriver.class)
+                && !isSingleSession(extensionContext);
+    }
+
+    private Optional<WebDriver> leaseBrokerBrowser(
+            ExtensionContext extensionContext, String contextId,
+            Parameter parameter, int index, BrowserType browserType,
+            String version, boolean docker,
+            Optional<Capabilities> capabilities) {
+        if (!capabilities.isPresent()) {
+            return Optional.empty();
+        }
+        long start;
+        Optional<BrowserBrokerClient.Lease> lease;
+        Optional<SessionQuota.Lease> quotaLease = acquireQuota(
+                extensionContext, contextId, 1);
+        try (SessionAdmission.Reservation reservation = getSessionAdmission(
+                extensionContext).admit(extensionContext.getUniqueId(), 1)) {
+            start = System.currentTimeMillis();
+            lease = new BrowserBrokerClient(config).lease(browserType, version,
+                    docker, capabilities.get());
+        }
+        if (!lease.isPresent()) {
+            // The browser is started as usual (and so, its quota is acquired
+            // again later)
+            quotaLease.ifPresent(SessionQuota.Lease::close);
+            return Optional.empty();
+        }
+        OutputHandler driverOutputHandler = new OutputHandler(
+                extensionContext, getConfig(), parameter);
+        WebDriver driver = lease.get().getDriver();
+        brokerLeaseMap.computeIfAbsent(contextId,
+                key -> Collections.synchronizedList(new ArrayList<>()))
+                .add(lease.get());
+        putDriverInMap(contextId, index, driver);
+        putOutputHandlerInMap(contextId, singletonList(driver),
+                driverOutputHandler);
+        if (resultLogger != null) {
+            resultLogger.driverCreated(extensionContext.getUniqueId(), driver,
+                    System.currentTimeMillis() - start);
+        }
+        startDevToolsFeatures(contextId, parameter, singletonList(driver),
+                driverOutputHandler);
+        return Optional.of(driver);
+    }
+
+    private void releaseBrokerBrowsers(ExtensionContext extensionContext,
+            String contextId) {
+        List<BrowserBrokerClient.Lease> leases = brokerLeaseMap
+                .remove(contextId);
+        if (leases == null) {
+            return;
+        }
+        List<Map<String, Object>> driverList = resultLogger != null
+                ? resultLogger.describeDrivers(leases.stream()
+                        .map(BrowserBrokerClient.Lease::getDriver).toList())
+                : null;
+        long start = System.currentTimeMillis();
+        leases.forEach(BrowserBrokerClient.Lease::close);
+        if (resultLogger != null) {
+            resultLogger.driversQuit(extensionContext.getUniqueId(),
+                    driverList, System.currentTimeMillis() - start);
+        }
+    }
+
+    private WebDriver leaseDockerBrowser(ExtensionContext extensionContext,
+            String contextId, Parameter parameter, int index,
+            DockerBrowser dockerBrowser, Capabilities capabilities) {
+        OutputHandler driverOutputHandler = new OutputHandler(
+                extensionContext, getConfig(), parameter);
+        addDockerDefaultArguments(dockerBrowser, capabilities);
+
+        long start;
+        WebDriver driver;
+        acquireQuota(extensionContext, contextId, 1);
+        try (SessionAdmission.Reservation reservation = getSessionAdmission(
+                extensionContext).admit(extensionContext.getUniqueId(), 1)) {
+            start = System.currentTimeMillis();
+            driver = getDockerBrowserPool(extensionContext).lease(
+                    getDockerKey(dockerBrowser),
+                    () -> getManagerForDocker(extensionContext, parameter,
+                            dockerBrowser),
+                    capabilities);
+        }
+        dockerLeaseMap.computeIfAbsent(contextId,
+                key -> Collections.synchronizedList(new ArrayList<>()))
+                .add(driver);
+        putDriverInMap(contextId, index, driver);
+        putOutputHandlerInMap(contextId, singletonList(driver),
+                driverOutputHandler);
+        if (resultLogger != null) {
+            resultLogger.driverCreated(extensionContext.getUniqueId(), driver,
+                    System.currentTimeMillis() - start);
+        }
+        startDevToolsFeatures(contextId, parameter, singletonList(driver),
+                driverOutputHandler);
+        return driver;
+    }
+
+    private List<WebDriver> startElasticDockerList(
+            ExtensionContext extensionContext, String contextId,
+            Parameter parameter, int index, DockerBrowser dockerBrowser) {
+        OutputHandler elasticOutputHandler = new OutputHandler(
+                extensionContext, getConfig(), parameter);
+        String testId = extensionContext.getUniqueId();
+        acquireQuota(extensionContext, contextId, dockerBrowser.size());
+        SessionAdmission.Reservation reservation = getSessionAdmission(
+                extensionContext).admit(testId, dockerBrowser.size());
+        long start = System.currentTimeMillis();
+
+        ElasticDriverList drivers = new ElasticDriverList(dockerBrowser.size(),
+                config.getDockerElasticTimeoutSec());
+        elasticListMap.computeIfAbsent(contextId,
+                key -> Collections.synchronizedList(new ArrayList<>()))
+                .add(drivers);
+        // One thread per concurrent start (finished once all the browsers
+        // of the list are started)
+        int concurrency = Math.max(1, Math.min(
+                config.getDockerElasticConcurrency(), dockerBrowser.size()));
+        ExecutorService elasticExecutor = newDaemonExecutor("seljup-elastic",
+                concurrency);
+        drivers.start(elasticExecutor, concurrency,
+                () -> {
+                    WebDriverManager wdm = getManagerForDocker(
+                            extensionContext, parameter, dockerBrowser);
+                    wdm.dockerRecordingPrefix(elasticOutputHandler.getPrefix());
+                    wdm.dockerRecordingOutput(
+                            elasticOutputHandler.getOutputFolder());
+                    return wdm;
+                }, wdm -> {
+                    putManagerInMap(contextId, wdm);
+                    putOutputHandlerInMap(contextId, wdm.getWebDriverList(),
+                            elasticOutputHandler);
+                    if (resultLogger != null) {
+                        resultLogger.driverCreated(testId, wdm.getWebDriver(),
+                                System.currentTimeMillis() - start);
+                    }
+                    if (config.isLogStreaming()) {
+                        startLogStreaming(contextId, wdm,
+                                elasticOutputHandler);
+                    }
+                    startDevToolsFeatures(contextId, parameter,
+                            wdm.getWebDriverList(), elasticOutputHandler);
+                });
+        elasticExecutor.shutdown();
+        try {
+            drivers.awaitReady(config.getDockerElasticReady());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // The rest of the browsers keep starting in the background
+            reservation.close();
+        }
+        if (drivers.isEmpty()) {
+            drivers.close();
+            throw new SeleniumJupiterException(
+                    "No browser in Docker ready after "
+                            + config.getDockerElasticTimeoutSec() + " seconds");
+        }
+        putDriverInMap(contextId, index, drivers.get(0));
+        return drivers;
+    }
+
+    private void addDockerDefaultArguments(DockerBrowser dockerBrowser,
+            Capabilities capabilities) {
+        // Same arguments than the ones added by WebDriverManager to the
+        // browsers in Docker (since the sessions are created directly here)
+        String args = dockerBrowser.args().isEmpty()
+                ? WebDriverManager.getInstance().config().getDockerDefaultArgs()
+                : dockerBrowser.args();
+        try {
+            capabilities.getClass().getMethod("addArguments", List.class)
+                    .invoke(capabilities, asList(args.split(",")));
+        } catch (Exception e) {
+            log.trace("Exception adding arguments to {} ({})", capabilities,
+                    e.getMessage());
+        }
+    }
+
+    private String getDockerKey(DockerBrowser dockerBrowser) {
+        return String.join("|", dockerBrowser.type().name(),
+                dockerBrowser.version(), dockerBrowser.args(),
+                dockerBrowser.lang(), dockerBrowser.timezone(),
+                String.join(",", dockerBrowser.volumes()),
+                String.valueOf(dockerBrowser.vnc() || config.isVnc()));
+    }
+
+    private DockerBrowserPool getDockerBrowserPool(
+            ExtensionContext extensionContext) {
+        return extensionContext.getRoot()
+                .getStore(ExtensionContext.Namespace.create(STORE_NAMESPACE))
+                .computeIfAbsent(STORE_DOCKER_POOL,
+                        key -> new DockerBrowserPool(
+                                config.getDockerReuseMaxSessions()),
+                        DockerBrowserPool.class);
+    }
+
+    private SessionAdmission getSessionAdmission(
+            ExtensionContext extensionContext) {
+        return extensionContext.getRoot()
+                .getStore(ExtensionContext.Namespace.create(STORE_NAMESPACE))
+                .computeIfAbsent(STORE_ADMISSION,
+                        key -> new SessionAdmission(config),
+                        SessionAdmission.class);
+    }
+
+    private Optional<SessionQuota.Lease> acquireQuota(
+            ExtensionContext extensionContext, String contextId,
+            int browserNumber) {
+        if (config.getQuotaMaxSessions() <= 0) {
+            return Optional.empty();
+        }
+        SessionQuota sessionQuota = extensionContext.getRoot()
+                .getStore(ExtensionContext.Namespace.create(STORE_NAMESPACE))
+                .computeIfAbsent(STORE_QUOTA, key -> {
+                    try {
+                        return new SessionQuota(config);
+                    } catch (IOException e) {
+                        throw new SeleniumJupiterException(e);
+                    }
+                }, SessionQuota.class);
+        SessionQuota.Lease lease = sessionQuota
+                .acquire(extensionContext.getUniqueId(), browserNumber);
+        quotaLeaseMap.computeIfAbsent(contextId,
+                key -> Collections.synchronizedList(new ArrayList<>()))
+                .add(lease);
+        return Optional.of(lease);
+    }
+
+    private void releaseQuota(String contextId) {
+        List<SessionQuota.Lease> leases = quotaLeaseMap.remove(contextId);
+        if (leases != null) {
+            leases.forEach(SessionQuota.Lease::close);
+        }
+    }
+
+    private void releaseDockerBrowsers(ExtensionContext extensionContext,
+            String contextId) {
+        List<WebDriver> drivers = dockerLeaseMap.remove(contextId);
+        if (drivers == null) {
+            return;
+        }
+        DockerBrowserPool dockerBrowserPool = getDockerBrowserPool(
+                extensionContext);
+        List<Map<String, Object>> driverList = resultLogger != null
+                ? resultLogger.describeDrivers(drivers)
+                : null;
+        long start = System.currentTimeMillis();
+        drivers.forEach(dockerBrowserPool::release);
+        if (resultLogger != null) {
+            resultLogger.driversQuit(extensionContext.getUniqueId(),
+                    driverList, System.currentTimeMillis() - start);
+        }
+    }
+
+    private void startTracing(String contextId, List<WebDriver> drivers,
+            OutputHandler driverOutputHandler) {
+        List<TraceRecorder> recorders = traceRecorderMap.computeIfAbsent(
+                contextId, key -> Collections.synchronizedList(
+                        new ArrayList<>()));
+        for (WebDriver driver : drivers) {
+            if (!(driver instanceof HasDevTools)) {
+                log.warn("Tracing is only available in Chromium-based"
+                        + " browsers (not in {})", driver);
+                continue;
+            }
+            File traceFile = new File(driverOutputHandler.getOutputFolder(),
+                    driverOutputHandler.getOutputFileName(driver)
+                            + ".json.gz");
+            TraceRecorder recorder = new TraceRecorder(driver,
+                    openDevTools(contextId, driver), traceFile);
+            if (recorder.start(config.getTracingCategories())) {
+                recorders.add(recorder);
+            }
+        }
+    }
+
+    private void restartTracing(String contextId) {
+        List<TraceRecorder> recorders = traceRecorderMap.get(contextId);
+        if (recorders == null) {
+            return;
+        }
+        synchronized (recorders) {
+            List<TraceRecorder> stoppedRecorders = recorders.stream()
+                    .filter(TraceRecorder::isStopped).toList();
+            recorders.removeAll(stoppedRecorders);
+            for (TraceRecorder stoppedRecorder : stoppedRecorders) {
+                WebDriver driver = stoppedRecorder.getDriver();
+                OutputHandler driverOutputHandler = getOutputHandler(
+                        contextId, driver);
+                File traceFile = new File(
+                        driverOutputHandler.getOutputFolder(),
+                        driverOutputHandler.getOutputFileName(driver)
+                                + ".json.gz");
+                TraceRecorder recorder = new TraceRecorder(driver,
+                        openDevTools(contextId, driver), traceFile);
+                if (recorder.start(config.getTracingCategories())) {
+                    recorders.add(recorder);
+                }
+            }
+        }
+    }
+
+    private void stopTracing(String contextId, String testId,
+            Optional<ExtentTest> optionalTest, boolean failed) {
+        List<TraceRecorder> recorders = traceRecorderMap.get(contextId);
+        if (recorders == null) {
+            return;
+        }
+        synchronized (recorders) {
+            for (TraceRecorder recorder : recorders) {
+                File traceFile = recorder.stop(config.getTracingTimeoutSec());
+                if (traceFile != null) {
+                    optionalTest.ifPresent(test -> reportManager.addFile(test,
+                            traceFile, recorder.getDriver() + " trace"));
+                    if (resultLogger != null) {
+                        resultLogger.trace(testId, traceFile);
+                    }
+                    retentionManager.registerTestArtifact(traceFile, failed);
+                }
+            }
+        }
+    }
+
+    private void applyNetworkProfile(String contextId, List<WebDriver> drivers,
+            NetworkProfile networkProfile) {
+        for (WebDriver driver : drivers) {
+            if (!(driver instanceof HasDevTools)) {
+                log.warn("Network profiles are only available"
+                        + " in Chromium-based browsers (not in {})", driver);
+                continue;
+            }
+            log.debug("Applying network profile to {} (latency={} ms,"
+                    + " download={} kbps, upload={} kbps, blocked={})",
+                    driver, networkProfile.latencyMs(),
+                    networkProfile.downloadKbps(), networkProfile.uploadKbps(),
+                    asList(networkProfile.block()));
+            DevTools devTools = openDevTools(contextId, driver);
+            devTools.send(
+                    new Command<>("Network.enable", Collections.emptyMap()));
+
+            if (networkProfile.offline() || networkProfile.latencyMs() > 0
+                    || networkProfile.downloadKbps() >= 0
+                    || networkProfile.uploadKbps() >= 0) {
+                Map<String, Object> conditions = new LinkedHashMap<>();
+                conditions.put("offline", networkProfile.offline());
+                conditions.put("latency", networkProfile.latencyMs());
+                conditions.put("downloadThroughput",
+                        toBytesPerSecond(networkProfile.downloadKbps()));
+                conditions.put("uploadThroughput",
+                        toBytesPerSecond(networkProfile.uploadKbps()));
+                devTools.send(new Command<>("Network.emulateNetworkConditions",
+                        conditions));
+            }
+            if (networkProfile.block().length > 0) {
+                devTools.send(new Command<>("Network.setBlockedURLs",
+                        Collections.singletonMap("urls",
+                                asList(networkProfile.block()))));
+            }
+        }
+    }
+
+    private static double toBytesPerSecond(long kbps) {
+        // In CDP, -1 disables the throttling
+        return kbps < 0 ? -1 : kbps * 1024 / 8.0;
+    }
+
+    private void startPerformanceCollection(String contextId,
+            List<WebDriver> drivers, CollectPerformance collectPerformance) {
+        List<PerformanceCollector> collectors = performanceCollectorMap
+                .computeIfAbsent(contextId, key -> Collections
+                        .synchronizedList(new ArrayList<>()));
+        for (WebDriver driver : drivers) {
+            if (!(driver instanceof HasDevTools)) {
+                log.warn("Performance metrics are only available"
+                        + " in Chromium-based browsers (not in {})", driver);
+                continue;
+            }
+            PerformanceCollector collector = new PerformanceCollector(driver,
+                    openDevTools(contextId, driver), collectPerformance);
+            collector.start();
+            collectors.add(collector);
+        }
+    }
+
+    private void startProcessAccounting(String contextId,
+            List<WebDriver> drivers) {
+        List<ProcessResourceMonitor> monitors = processMonitorMap
+                .computeIfAbsent(contextId, key -> Collections
+                        .synchronizedList(new ArrayList<>()));
+        for (WebDriver driver : drivers) {
+            Optional<ProcessResourceMonitor> monitor = ProcessResourceMonitor
+                    .find(driver);
+            if (!monitor.isPresent()) {
+                log.debug("Process of {} not found (only local browsers"
+                        + " are accounted)", driver);
+                continue;
+            }
+            monitor.get().sample(ProcessResourceMonitor.PHASE_CREATE);
+            monitors.add(monitor.get());
+        }
+    }
+
+    private void sampleProcesses(String contextId, String phase) {
+        List<ProcessResourceMonitor> monitors = processMonitorMap
+                .get(contextId);
+        if (monitors != null) {
+            synchronized (monitors) {
+                monitors.forEach(monitor -> monitor.sample(phase));
+            }
+        }
+    }
+
+    private void reportProcessResources(ExtensionContext extensionContext,
+            String contextId) {
+        List<ProcessResourceMonitor> monitors = processMonitorMap
+                .remove(contextId);
+        if (monitors == null) {
+            return;
+        }
+        Optional<ExtentTest> optionalTest = findTest(extensionContext);
+        synchronized (monitors) {
+            for (ProcessResourceMonitor monitor : monitors) {
+                monitor.sample(ProcessResourceMonitor.PHASE_QUIT);
+                Map<String, Map<String, Long>> samples = monitor
+                        .getSamples();
+                log.debug("Process resources of {}: {}", monitor.getDriver(),
+                        samples);
+                optionalTest.ifPresent(test -> test.info(
+                        MarkupHelper.createTable(getProcessTable(samples))));
+                if (resultLogger != null) {
+                    resultLogger.processResources(
+                            extensionContext.getUniqueId(),
+                            monitor.getDriver(), samples);
+                }
+            }
+        }
+    }
+
+    private String[][] getProcessTable(
+            Map<String, Map<String, Long>> samples) {
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[] { "Phase", "CPU time (ms)", "RSS (MB)",
+                "Processes" });
+        for (Map.Entry<String, Map<String, Long>> entry : samples
+                .entrySet()) {
+            Map<String, Long> sample = entry.getValue();
+            rows.add(new String[] { entry.getKey(),
+                    String.valueOf(sample.get(ProcessResourceMonitor.CPU_MS)),
+                    String.valueOf(sample.get(ProcessResourceMonitor.RSS_MB)),
+                    String.valueOf(
+                            sample.get(ProcessResourceMonitor.PROCESSES)) });
+        }
+        return rows.toArray(new String[0][]);
+    }
+
+    private void startLogStreaming(String contextId, WebDriverManager wdm,
+            OutputHandler driverOutputHandler) {
+        List<LogStreamer> streamers = logStreamerMap.computeIfAbsent(
+                contextId, key -> Collections.synchronizedList(
+                        new ArrayList<>()));
+        for (WebDriver driver : wdm.getWebDriverList()) {
+            File logFile = new File(driverOutputHandler.getOutputFolder(),
+                    driverOutputHandler.getOutputFileName(driver) + ".log");
+            LogStreamer logStreamer = new LogStreamer(wdm, driver, logFile,
+                    config.getLogStreamingBufferSize());
+            logStreamer.start(config.getLogStreamingIntervalMs());
+            streamers.add(logStreamer);
+        }
+    }
+
+    private Optional<LogStreamer> findLogStreamer(String contextId,
+            WebDriver driver) {
+        List<LogStreamer> streamers = logStreamerMap.get(contextId);
+        if (streamers == null) {
+            return Optional.empty();
+        }
+        synchronized (streamers) {
+            return streamers.stream()
+                    .filter(streamer -> streamer.getDriver() == driver)
+                    .findFirst();
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -339,15 +1034,9 @@ public class SeleniumJupiter implements BeforeEachCallback, ParameterResolver,
     }
 
     private Object resolveDevTools(String contextId, int index) {
-        if (wdmMap != null && wdmMap.get(contextId) != null
-                && wdmMap.get(contextId).size() >= index) {
-            WebDriver driver = wdmMap.get(contextId).get(index - 1)
-                    .getWebDriver();
-            log.debug("Opening DevTools for {}", driver);
-            DevTools devTools = ((HasDevTools) driver).getDevTools();
-            devTools.createSessionIfThereIsNotOne();
-            devToolsList.add(devTools);
-            return devTools;
+        Optional<WebDriver> driver = findPreviousDriver(contextId, index);
+        if (driver.isPresent()) {
+            return openDevTools(contextId, driver.get());
         } else {
             throw new SeleniumJupiterException(
                     "Incorrect position of DevTool arguments"
@@ -355,14 +1044,172 @@ public class SeleniumJupiter implements BeforeEachCallback, ParameterResolver,
         }
     }
 
+    private DevTools openDevTools(String contextId, WebDriver driver) {
+        // One DevTools session per driver (created lazily), tracked per
+        // context so that tests running in parallel do not close each other
+        return devToolsMap
+                .computeIfAbsent(contextId, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(driver, key -> {
+                    log.debug("Opening DevTools for {}", driver);
+                    DevTools devTools = ((HasDevTools) driver).getDevTools();
+                    devTools.createSessionIfThereIsNotOne();
+                    return devTools;
+                });
+    }
+
+    static synchronized ExecutorService getAsyncExecutor(Config config) {
+        if (asyncExecutor == null) {
+            asyncExecutor = newDaemonExecutor("seljup-async",
+                    getAsyncThreads(config));
+        }
+        return asyncExecutor;
+    }
+
+    static synchronized ExecutorService getCaptureExecutor(Config config) {
+        if (captureExecutor == null) {
+            captureExecutor = newDaemonExecutor("seljup-capture",
+                    getAsyncThreads(config));
+        }
+        return captureExecutor;
+    }
+
+    static int getAsyncThreads(Config config) {
+        // Background tasks are mostly waiting for the browsers (or for
+        // Docker), and so the pool is larger than the number of CPUs
+        return config.getAsyncThreads() > 0 ? config.getAsyncThreads()
+                : 2 * Runtime.getRuntime().availableProcessors();
+    }
+
+    static ExecutorService newDaemonExecutor(String name, int threads) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+                ASYNC_KEEP_ALIVE_SEC, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, name);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private void closeDevTools(String contextId) {
+        Map<WebDriver, DevTools> devToolsPerDriver = devToolsMap
+                .remove(contextId);
+        if (devToolsPerDriver == null) {
+            return;
+        }
+        CompletableFuture<?>[] futures = devToolsPerDriver.entrySet()
+                .stream()
+                .map(entry -> CompletableFuture.runAsync(() -> {
+                    try {
+                        entry.getValue().close();
+                    } catch (Exception e) {
+                        log.warn("Exception closing DevTools of {}",
+                                entry.getKey(), e);
+                    }
+                }, getAsyncExecutor(config)))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(futures)
+                    .get(DEVTOOLS_CLOSE_TIMEOUT_SEC, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Exception closing DevTools sessions of {}", contextId,
+                    e);
+        }
+    }
+
+    private void putDriverInMap(String contextId, int index,
+            WebDriver driver) {
+        if (driver != null) {
+            parameterDriverMap
+                    .computeIfAbsent(contextId,
+                            key -> new ConcurrentSkipListMap<>())
+                    .put(index, driver);
+        }
+    }
+
+    private void putOutputHandlerInMap(String contextId,
+            List<WebDriver> drivers, OutputHandler driverOutputHandler) {
+        Map<WebDriver, OutputHandler> outputHandlers = outputHandlerMap
+                .computeIfAbsent(contextId, key -> new ConcurrentHashMap<>());
+        drivers.stream().filter(Objects::nonNull).forEach(
+                driver -> outputHandlers.put(driver, driverOutputHandler));
+    }
+
+    private OutputHandler getOutputHandler(String contextId,
+            WebDriver driver) {
+        Map<WebDriver, OutputHandler> outputHandlers = outputHandlerMap
+                .getOrDefault(contextId, Collections.emptyMap());
+        OutputHandler driverOutputHandler = outputHandlers.get(driver);
+        if (driverOutputHandler == null) {
+            // Drivers not registered (if any) use another handler of the
+            // same test (i.e., with the same output folder)
+            driverOutputHandler = outputHandlers.values().stream()
+                    .findFirst().orElse(null);
+        }
+        return driverOutputHandler;
+    }
+
+    private Optional<WebDriver> findPreviousDriver(String contextId,
+            int index) {
+        NavigableMap<Integer, WebDriver> drivers = parameterDriverMap
+                .get(contextId);
+        if (drivers == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(drivers.lowerEntry(index))
+                .map(Map.Entry::getValue);
+    }
+
+    private Object resolveNetworkRecorder(ExtensionContext extensionContext,
+            String contextId, Parameter parameter, int index) {
+        Optional<WebDriver> previousDriver = findPreviousDriver(contextId,
+                index);
+        if (previousDriver.isPresent()) {
+            WebDriver driver = previousDriver.get();
+            OutputHandler networkOutputHandler = new OutputHandler(
+                    extensionContext, getConfig(), parameter);
+            File harFile = new File(networkOutputHandler.getOutputFolder(),
+                    networkOutputHandler.getOutputFileName(driver) + ".har");
+            NetworkRecorder networkRecorder = new NetworkRecorder(driver,
+                    openDevTools(contextId, driver), harFile);
+            networkRecorder.start();
+            networkRecorderMap
+                    .computeIfAbsent(contextId,
+                            key -> Collections
+                                    .synchronizedList(new ArrayList<>()))
+                    .add(networkRecorder);
+            return networkRecorder;
+        } else {
+            throw new SeleniumJupiterException(
+                    "Incorrect position of NetworkRecorder arguments"
+                            + " (it should be declared after a ChromiumDriver parameter)");
+        }
+    }
+
     private Object resolveHtmlUnit(Class<?> type,
-            ExtensionContext extensionContext, Parameter parameter) {
+            ExtensionContext extensionContext, String contextId,
+            Parameter parameter) {
         WebDriver driver = null;
         try {
             Optional<Capabilities> capabilities = getCapabilities(
                     extensionContext, parameter, Optional.empty(),
                     Optional.empty(), Optional.empty());
 
+            HtmlUnitPool htmlUnitPool = null;
+            if (config.isHtmlUnitPool()) {
+                htmlUnitPool = getHtmlUnitPool(extensionContext);
+                Optional<WebDriver> pooledDriver = htmlUnitPool.borrow(type,
+                        capabilities);
+                if (pooledDriver.isPresent()) {
+                    driver = pooledDriver.get();
+                    putHtmlUnitDriverInMap(contextId, driver);
+                    return driver;
+                }
+            }
+
             if (capabilities.isPresent()) {
                 driver = (WebDriver) type
                         .getDeclaredConstructor(Capabilities.class)
@@ -371,12 +1218,53 @@ public class SeleniumJupiter implements BeforeEachCallback, ParameterResolver,
                 driver = (WebDriver) type.getDeclaredConstructor()
                         .newInstance();
             }
+            if (htmlUnitPool != null) {
+                htmlUnitPool.register(driver, type, capabilities);
+            }
+            putHtmlUnitDriverInMap(contextId, driver);
         } catch (Exception e) {
             log.warn("Exception trying to create HtmlUnit instance", e);
         }
         return driver;
     }
 
+    private HtmlUnitPool getHtmlUnitPool(ExtensionContext extensionContext) {
+        return extensionContext.getRoot()
+                .getStore(ExtensionContext.Namespace.create(STORE_NAMESPACE))
+                .computeIfAbsent(STORE_HTMLUNIT_POOL,
+                        key -> new HtmlUnitPool(config.getHtmlUnitPoolSize()),
+                        HtmlUnitPool.class);
+    }
+
+    private void putHtmlUnitDriverInMap(String contextId, WebDriver driver) {
+        htmlUnitDriverMap.computeIfAbsent(contextId,
+                key -> Collections.synchronizedList(new ArrayList<>()))
+                .add(driver);
+    }
+
+    private void releaseHtmlUnitDrivers(ExtensionContext extensionContext,
+            String contextId) {
+        List<WebDriver> drivers = htmlUnitDriverMap.remove(contextId);
+        if (drivers == null) {
+            return;
+        }
+        HtmlUnitPool htmlUnitPool = config.isHtmlUnitPool()
+                ? getHtmlUnitPool(extensionContext)
+                : null;
+        for (WebDriver driver : drivers) {
+            if (htmlUnitPool != null) {
+                htmlUnitPool.release(driver);
+            } else {
+                try {
+                    driver.quit();
+                } catch (Exception e) {
+                    log.warn("Exception quitting HtmlUnit driver {}", driver,
+                            e);
+                }
+            }
+        }
+    }
+
     private Object resolveAppium(Optional<Object> testInstance,
             Parameter parameter) {
         Object driver = null;
@@ -397,12 +1285,35 @@ public class SeleniumJupiter implements BeforeEachCallback, ParameterResolver,
     }
 
     private String getContextId(ExtensionContext extensionContext) {
+        // The state of each test is kept by its own id (so the tests of the
+        // same class can be executed concurrently), except in single session
         Optional<ExtensionContext> parent = extensionContext.getParent();
-        return parent.isPresent()
-                && extensionContext.getClass().getCanonicalName().equals(
-                        "org.junit.jupiter.engine.descriptor.MethodExtensionContext")
-                                ? parent.get().getUniqueId()
-                                : extensionContext.getUniqueId();
+        return parent.isPresent() && isMethodContext(extensionContext)
+                && isSingleSession(extensionContext)
+                        ? parent.get().getUniqueId()
+                        : extensionContext.getUniqueId();
+    }
+
+    private List<String> getContextIds(ExtensionContext extensionContext) {
+        // Besides the state of the test, the browsers injected in the
+        // constructor are kept by the id of the test class
+        String contextId = getContextId(extensionContext);
+        Optional<ExtensionContext> classContext = extensionContext
+                .getParent();
+        while (classContext.isPresent()
+                && classContext.get().getTestMethod().isPresent()) {
+            classContext = classContext.get().getParent();
+        }
+        if (isMethodContext(extensionContext) && classContext.isPresent()
+                && !classContext.get().getUniqueId().equals(contextId)) {
+            return List.of(contextId, classContext.get().getUniqueId());
+        }
+        return List.of(contextId);
+    }
+
+    private boolean isMethodContext(ExtensionContext extensionContext) {
+        return extensionContext.getClass().getCanonicalName().equals(
+                "org.junit.jupiter.engine.descriptor.MethodExtensionContext");
     }
 
     private WebDriverManager getManagerForRemote(URL url, Capabilities caps) {
@@ -537,21 +1448,146 @@ public class SeleniumJupiter implements BeforeEachCallback, ParameterResolver,
     @Override
     public void afterTestExecution(ExtensionContext extensionContext)
             throws Exception {
-        String contextId = getContextId(extensionContext);
-        if (wdmMap.containsKey(contextId)) {
+        List<String> performanceViolations = new ArrayList<>();
+        for (String contextId : getContextIds(extensionContext)) {
+            performanceViolations
+                    .addAll(gatherTestData(extensionContext, contextId));
+        }
+
+        // Performance thresholds are checked once the rest of the data have
+        // been gathered, since the failure stops this callback. The failure
+        // is reported here, since the exception handler of the test is not
+        // invoked for the failures of this callback
+        if (!performanceViolations.isEmpty()) {
+            AssertionFailedError error = new AssertionFailedError(
+                    "Performance thresholds exceeded: "
+                            + performanceViolations);
+            if (resultLogger != null) {
+                resultLogger.testFailed(extensionContext.getUniqueId(), error);
+            }
+            findTest(extensionContext).ifPresent(test -> test.fail(error));
+            throw error;
+        }
+    }
+
+    private List<String> gatherTestData(ExtensionContext extensionContext,
+            String contextId) {
+        List<String> performanceViolations = new ArrayList<>();
+        if (wdmMap.containsKey(contextId)
+                || dockerLeaseMap.containsKey(contextId)
+                || brokerLeaseMap.containsKey(contextId)) {
             Optional<ExtentTest> optionalTest = findTest(extensionContext);
-            ScreenshotManager screenshotManager = new ScreenshotManager(
-                    extensionContext, getConfig(), outputHandler);
-            wdmMap.get(contextId).forEach(wdm -> {
-                wdm.getWebDriverList().forEach(driver -> screenshotManager
-                        .makeScreenshotIfRequired(driver, optionalTest));
+            boolean failed = extensionContext.getExecutionException()
+                    .isPresent();
+            boolean keepRecordings = !config.isRecordingWhenFailure()
+                    || failed;
+            String testId = extensionContext.getUniqueId();
+            stopTracing(contextId, testId, optionalTest, failed);
+            writeNetworkRecordings(contextId, testId, optionalTest, failed);
+            sampleProcesses(contextId, ProcessResourceMonitor.PHASE_TEST);
+            performanceViolations = collectPerformance(contextId, testId,
+                    optionalTest);
+            dockerLeaseMap.getOrDefault(contextId, Collections.emptyList())
+                    .forEach(driver -> makeScreenshot(extensionContext,
+                            contextId, driver, optionalTest, testId, failed));
+            brokerLeaseMap.getOrDefault(contextId, Collections.emptyList())
+                    .forEach(lease -> makeScreenshot(extensionContext,
+                            contextId, lease.getDriver(), optionalTest, testId,
+                            failed));
+            for (WebDriverManager wdm : wdmMap.getOrDefault(contextId,
+                    Collections.emptyList())) {
+                wdm.getWebDriverList()
+                        .forEach(driver -> makeScreenshot(extensionContext,
+                                contextId, driver, optionalTest, testId,
+                                failed));
                 wdm.stopDockerRecording();
-                String recordingBase64 = wdm.getRecordingBase64();
-                if (recordingBase64 != null && !recordingBase64.isEmpty()) {
-                    optionalTest.ifPresent(test -> test
-                            .addVideoFromBase64String(recordingBase64));
+                if (keepRecordings) {
+                    wdm.getWebDriverList().forEach(driver -> {
+                        Path recordingPath = wdm.getRecordingPath(driver);
+                        String outputFolder = getOutputHandler(contextId,
+                                driver).getOutputFolder();
+                        optionalTest.map(test -> reportManager.addRecording(
+                                test, recordingPath, outputFolder))
+                                .ifPresent(path -> retentionManager
+                                        .registerTestArtifact(path.toFile(),
+                                                failed));
+                        if (resultLogger != null && recordingPath != null) {
+                            resultLogger.recording(testId, recordingPath);
+                        }
+                    });
+                }
+            }
+        }
+        return performanceViolations;
+    }
+
+    private void makeScreenshot(ExtensionContext extensionContext,
+            String contextId, WebDriver driver,
+            Optional<ExtentTest> optionalTest, String testId, boolean failed) {
+        ScreenshotManager screenshotManager = new ScreenshotManager(
+                extensionContext, getConfig(),
+                getOutputHandler(contextId, driver), reportManager);
+        Optional<File> screenshot = screenshotManager
+                .makeScreenshotIfRequired(driver, optionalTest);
+        if (resultLogger != null && screenshot.isPresent()) {
+            resultLogger.screenshot(testId, screenshot.get());
+        }
+        screenshot.ifPresent(
+                file -> retentionManager.registerTestArtifact(file, failed));
+    }
+
+    private List<String> collectPerformance(String contextId, String testId,
+            Optional<ExtentTest> optionalTest) {
+        List<String> violations = new ArrayList<>();
+        List<PerformanceCollector> collectors = performanceCollectorMap
+                .get(contextId);
+        if (collectors == null) {
+            return violations;
+        }
+        synchronized (collectors) {
+            for (PerformanceCollector collector : collectors) {
+                WebDriver driver = collector.getDriver();
+                try {
+                    Map<String, Double> metrics = collector.collect();
+                    log.debug("Performance metrics of {}: {}", driver,
+                            metrics);
+                    optionalTest.ifPresent(test -> test.info(MarkupHelper
+                            .createTable(metrics.entrySet().stream()
+                                    .map(entry -> new String[] {
+                                            entry.getKey(), String.format(
+                                                    "%.2f", entry.getValue()) })
+                                    .toArray(String[][]::new))));
+                    if (resultLogger != null) {
+                        resultLogger.performance(testId, driver, metrics);
+                    }
+                    violations.addAll(collector.checkThresholds(metrics));
+                } catch (Exception e) {
+                    log.warn("Exception collecting performance metrics of {}",
+                            driver, e);
+                }
+            }
+        }
+        return violations;
+    }
+
+    private void writeNetworkRecordings(String contextId, String testId,
+            Optional<ExtentTest> optionalTest, boolean failed) {
+        List<NetworkRecorder> recorders = networkRecorderMap.get(contextId);
+        if (recorders == null || !(failed || config.isNetworkHar())) {
+            return;
+        }
+        synchronized (recorders) {
+            for (NetworkRecorder recorder : recorders) {
+                File harFile = recorder.writeHar();
+                if (harFile != null) {
+                    optionalTest.ifPresent(test -> reportManager.addFile(test,
+                            harFile, recorder.getDriver() + " network"));
+                    if (resultLogger != null) {
+                        resultLogger.har(testId, harFile);
+                    }
+                    retentionManager.registerTestArtifact(harFile, failed);
                 }
-            });
+            }
         }
     }
 
@@ -569,6 +1605,30 @@ public class SeleniumJupiter implements BeforeEachCallback, ParameterResolver,
         }
     }
 
+    @Override
+    public Set<Lock> provideForClass(Class<?> testClass) {
+        BrowserResourceLocks resourceLocks = new BrowserResourceLocks(config);
+        return resourceLocks.getLocks(testClass,
+                resourceLocks.getClassExecutables(testClass));
+    }
+
+    @Override
+    public Set<Lock> provideForNestedClass(
+            List<Class<?>> enclosingInstanceTypes, Class<?> testClass) {
+        return provideForClass(testClass);
+    }
+
+    @Override
+    public Set<Lock> provideForMethod(List<Class<?>> enclosingInstanceTypes,
+            Class<?> testClass, Method testMethod) {
+        // In single session, the locks are held by the class
+        if (findAnnotation(testClass, SingleSession.class).isPresent()) {
+            return Collections.emptySet();
+        }
+        return new BrowserResourceLocks(config).getLocks(testClass,
+                singletonList(testMethod));
+    }
+
     @Override
     public boolean supportsTestTemplate(ExtensionContext extensionContext) {
         boolean allWebDriver = false;
@@ -594,28 +1654,8 @@ public class SeleniumJupiter implements BeforeEachCallback, ParameterResolver,
                         .map(b -> invocationContext(b, this, extensionContext));
             }
 
-            // Browser scenario by content
-            String browserJsonContent = config.getBrowserTemplateJsonContent();
-            if (browserJsonContent.isEmpty()) {
-
-                // Browser scenario by JSON file
-                String browserJsonFile = config.getBrowserTemplateJsonFile();
-                if (browserJsonFile.startsWith(CLASSPATH_PREFIX)) {
-                    String browserJsonInClasspath = browserJsonFile
-                            .substring(CLASSPATH_PREFIX.length());
-                    InputStream resourceAsStream = this.getClass()
-                            .getResourceAsStream("/" + browserJsonInClasspath);
-                    if (resourceAsStream != null) {
-                        browserJsonContent = IOUtils.toString(resourceAsStream,
-                                defaultCharset());
-                    }
-
-                } else {
-                    browserJsonContent = new String(
-                            readAllBytes(get(browserJsonFile)));
-                }
-            }
-
+            // Browser scenario by content or JSON file
+            String browserJsonContent = getBrowserTemplateJsonContent();
             if (!browserJsonContent.isEmpty()) {
                 return new Gson()
                         .fromJson(browserJsonContent, BrowsersTemplate.class)
@@ -641,6 +1681,45 @@ public class SeleniumJupiter implements BeforeEachCallback, ParameterResolver,
                 "No browser scenario registered for test template");
     }
 
+    private String getBrowserTemplateJsonContent() throws IOException {
+        String browserJsonContent = config.getBrowserTemplateJsonContent();
+        if (browserJsonContent.isEmpty()) {
+            String browserJsonFile = config.getBrowserTemplateJsonFile();
+            if (browserJsonFile.startsWith(CLASSPATH_PREFIX)) {
+                String browserJsonInClasspath = browserJsonFile
+                        .substring(CLASSPATH_PREFIX.length());
+                InputStream resourceAsStream = this.getClass()
+                        .getResourceAsStream("/" + browserJsonInClasspath);
+                if (resourceAsStream != null) {
+                    browserJsonContent = IOUtils.toString(resourceAsStream,
+                            defaultCharset());
+                }
+
+            } else {
+                browserJsonContent = new String(
+                        readAllBytes(get(browserJsonFile)));
+            }
+        }
+        return browserJsonContent;
+    }
+
+    private Stream<Browser> getTemplateBrowsers() {
+        Stream<List<Browser>> browserLists = browserListList.stream();
+        if (browserListList.isEmpty()) {
+            try {
+                String browserJsonContent = getBrowserTemplateJsonContent();
+                browserLists = browserJsonContent.isEmpty() ? Stream.empty()
+                        : new Gson().fromJson(browserJsonContent,
+                                BrowsersTemplate.class).getStream();
+            } catch (Exception e) {
+                log.debug("Exception reading browser template ({})",
+                        e.getMessage());
+                browserLists = Stream.empty();
+            }
+        }
+        return browserLists.flatMap(List::stream);
+    }
+
     private synchronized TestTemplateInvocationContext invocationContext(
             List<Browser> template, SeleniumJupiter parent,
             ExtensionContext extensionContext) {
@@ -816,15 +1895,10 @@ public class SeleniumJupiter implements BeforeEachCallback, ParameterResolver,
     private void putManagerInMap(String contextId, WebDriverManager wdm) {
         log.trace("Put manager {} in map (context id {})", wdm, contextId);
 
-        if (wdmMap.containsKey(contextId)) {
-            wdmMap.get(contextId).add(wdm);
-            log.trace("Adding {} to existing map (id {})", wdm, contextId);
-        } else {
-            List<WebDriverManager> wdmList = new ArrayList<>();
-            wdmList.add(wdm);
-            wdmMap.put(contextId, wdmList);
-            log.trace("Adding {} to new map (id {})", wdm, contextId);
-        }
+        // Managers can be added concurrently (e.g., elastic Docker lists)
+        wdmMap.computeIfAbsent(contextId,
+                key -> Collections.synchronizedList(new ArrayList<>()))
+                .add(wdm);
     }
 
     private boolean isSingleSession(ExtensionContext extensionContext) {
@@ -839,43 +1913,116 @@ public class SeleniumJupiter implements BeforeEachCallback, ParameterResolver,
     }
 
     private void quitWebDriver(ExtensionContext extensionContext) {
-        String contextId = getContextId(extensionContext);
+        for (String contextId : getContextIds(extensionContext)) {
+            quitWebDriver(extensionContext, contextId);
+        }
+    }
 
+    private void quitWebDriver(ExtensionContext extensionContext,
+            String contextId) {
         log.trace("Quitting contextId {}: (wdmMap={})", contextId, wdmMap);
 
-        // Close DevTools (if any)
-        devToolsList.forEach(DevTools::close);
-        devToolsList.clear();
+        try {
+            // Discard the browsers in Docker still starting (if any)
+            List<ElasticDriverList> elasticLists = elasticListMap
+                    .remove(contextId);
+            if (elasticLists != null) {
+                elasticLists.forEach(ElasticDriverList::close);
+            }
 
-        if (wdmMap.containsKey(contextId)) {
-            Optional<Throwable> executionException = extensionContext
-                    .getExecutionException();
-            wdmMap.get(contextId).forEach(wdm -> {
-                // Get recording files (to be deleted after quit)
-                List<Path> recordingList = Collections.emptyList();
-                if (config.isRecordingWhenFailure()
-                        && !executionException.isPresent()) {
-                    recordingList = wdm.getWebDriverList().stream()
-                            .map(wdm::getDockerRecordingPath).toList();
-                }
+            // Report process resources (before quitting the browsers)
+            reportProcessResources(extensionContext, contextId);
 
-                // Quit manager
-                wdm.quit();
+            // Stop performance collection (if any)
+            List<PerformanceCollector> collectors = performanceCollectorMap
+                    .remove(contextId);
+            if (collectors != null) {
+                collectors.forEach(PerformanceCollector::close);
+            }
 
-                // Delete recordings (if any)
-                recordingList.forEach(path -> {
-                    try {
-                        log.debug("Deleting {} (since test does not fail)",
-                                path);
-                        Files.delete(path);
-                    } catch (Exception e) {
-                        log.warn("Exception trying to delete recording {}",
-                                path);
+            // Stop tracing (if any)
+            List<TraceRecorder> traceRecorders = traceRecorderMap
+                    .remove(contextId);
+            if (traceRecorders != null) {
+                traceRecorders.forEach(TraceRecorder::close);
+            }
+
+            // Stop network recording (if any)
+            List<NetworkRecorder> recorders = networkRecorderMap
+                    .remove(contextId);
+            if (recorders != null) {
+                recorders.forEach(NetworkRecorder::close);
+            }
+
+            // Release HtmlUnit drivers (if any)
+            releaseHtmlUnitDrivers(extensionContext, contextId);
+
+            // Release reused Docker browsers (if any)
+            releaseDockerBrowsers(extensionContext, contextId);
+
+            // Release browsers leased by the broker (if any)
+            releaseBrokerBrowsers(extensionContext, contextId);
+
+            // Close DevTools (if any)
+            closeDevTools(contextId);
+            parameterDriverMap.remove(contextId);
+            outputHandlerMap.remove(contextId);
+            browserListMap.remove(contextId);
+
+            // Stop log streaming (if any)
+            List<LogStreamer> streamers = logStreamerMap.remove(contextId);
+            if (streamers != null) {
+                boolean failed = extensionContext.getExecutionException()
+                        .isPresent();
+                streamers.forEach(logStreamer -> {
+                    logStreamer.close();
+                    retentionManager.registerTestArtifact(
+                            logStreamer.getLogFile(), failed);
+                });
+            }
+
+            if (wdmMap.containsKey(contextId)) {
+                Optional<Throwable> executionException = extensionContext
+                        .getExecutionException();
+                wdmMap.get(contextId).forEach(wdm -> {
+                    // Get recording files (to be deleted after quit)
+                    List<Path> recordingList = Collections.emptyList();
+                    if (config.isRecordingWhenFailure()
+                            && !executionException.isPresent()) {
+                        recordingList = wdm.getWebDriverList().stream()
+                                .map(wdm::getDockerRecordingPath).toList();
                     }
+
+                    // Quit manager
+                    List<Map<String, Object>> drivers = resultLogger != null
+                            ? resultLogger
+                                    .describeDrivers(wdm.getWebDriverList())
+                            : null;
+                    long start = System.currentTimeMillis();
+                    wdm.quit();
+                    if (resultLogger != null) {
+                        resultLogger.driversQuit(extensionContext.getUniqueId(),
+                                drivers, System.currentTimeMillis() - start);
+                    }
+
+                    // Delete recordings (if any)
+                    recordingList.forEach(path -> {
+                        try {
+                            log.debug("Deleting {} (since test does not fail)",
+                                    path);
+                            Files.delete(path);
+                        } catch (Exception e) {
+                            log.warn("Exception trying to delete recording {}",
+                                    path);
+                        }
+                    });
                 });
-            });
 
-            removeManagersFromMap(contextId);
+                removeManagersFromMap(contextId);
+            }
+        } finally {
+            // Release the machine-wide session quota (if any)
+            releaseQuota(contextId);
         }
     }
 
@@ -974,6 +2121,9 @@ public class SeleniumJupiter implements BeforeEachCallback, ParameterResolver,
     @Override
     public void handleTestExecutionException(ExtensionContext extensionContext,
             Throwable throwable) throws Throwable {
+        if (resultLogger != null) {
+            resultLogger.testFailed(extensionContext.getUniqueId(), throwable);
+        }
         findTest(extensionContext).ifPresent(test -> {
             gatherBrowserData(test, extensionContext);
             test.fail(throwable);
@@ -981,6 +2131,17 @@ public class SeleniumJupiter implements BeforeEachCallback, ParameterResolver,
         throw throwable;
     }
 
+    @Override
+    public void testSuccessful(ExtensionContext extensionContext) {
+        finishTest(extensionContext, "successful");
+    }
+
+    @Override
+    public void testFailed(ExtensionContext extensionContext,
+            Throwable cause) {
+        finishTest(extensionContext, "failed");
+    }
+
     @Override
     public void testDisabled(ExtensionContext extensionContext,
             Optional<String> reason) {
@@ -992,17 +2153,17 @@ public class SeleniumJupiter implements BeforeEachCallback, ParameterResolver,
     public void testAborted(ExtensionContext extensionContext,
             Throwable cause) {
         findTest(extensionContext).ifPresent(test -> test.skip(cause));
+        finishTest(extensionContext, "aborted");
     }
 
-    private ExtentTest createExtentTest(ExtentReports report,
-            ExtensionContext context) {
-        String displayName = context.getDisplayName();
-        String testName = context.getTestClass()
-                .map(testClass -> testClass.getSimpleName() + "." + displayName)
-                .orElse(displayName);
-        ExtentTest extentTest = report.createTest(testName);
-        context.getTags().forEach(extentTest::assignCategory);
-        return extentTest;
+    private void finishTest(ExtensionContext extensionContext, String status) {
+        ExtentTest test = testMap.remove(extensionContext.getUniqueId());
+        if (test != null && reportManager != null) {
+            reportManager.finishTest(test);
+        }
+        if (resultLogger != null) {
+            resultLogger.testFinished(extensionContext.getUniqueId(), status);
+        }
     }
 
     private Optional<ExtentTest> findTest(ExtensionContext extensionContext) {
@@ -1016,35 +2177,183 @@ public class SeleniumJupiter implements BeforeEachCallback, ParameterResolver,
 
     private void gatherBrowserData(ExtentTest test,
             ExtensionContext extensionContext) {
-        String contextId = getContextId(extensionContext);
-        List<WebDriverManager> wdmList = wdmMap.get(contextId);
-        if (wdmMap.containsKey(contextId)) {
-            for (WebDriverManager wdm : wdmList) {
+        // Screenshots and logs are gathered concurrently for all the drivers
+        Map<WebDriver, BrowserDataCapture> captures = new LinkedHashMap<>();
+        Map<WebDriver, OutputHandler> outputHandlers = new HashMap<>();
+        for (String contextId : getContextIds(extensionContext)) {
+            for (WebDriverManager wdm : wdmMap.getOrDefault(contextId,
+                    Collections.emptyList())) {
                 for (WebDriver driver : wdm.getWebDriverList()) {
-                    String driverInfo = driver.toString();
-
-                    // Screenshot
-                    String base64Screenshot = ScreenshotManager
-                            .getBase64Screenshot(driver);
-                    test.addScreenCaptureFromBase64String(base64Screenshot,
-                            driverInfo);
-
-                    // Logs
-                    List<Map<String, Object>> logs = wdm.getLogs(driver);
-                    if (logs != null && !logs.isEmpty()) {
-                        String logAsString = logs.stream()
-                                .map(entry -> String.format("[%s] [%s] %s",
-                                        entry.get("datetime"),
-                                        entry.get("type"),
-                                        entry.get("message")))
-                                .collect(Collectors
-                                        .joining(System.lineSeparator()));
-                        test.info(String.format(FORMATTED_INFO,
-                                driverInfo + " console", logAsString));
+                    outputHandlers.put(driver,
+                            getOutputHandler(contextId, driver));
+                    Optional<LogStreamer> logStreamer = findLogStreamer(
+                            contextId, driver);
+                    captures.put(driver, new BrowserDataCapture(
+                            () -> readBrowserData(wdm, driver, logStreamer)));
+                }
+            }
+
+            // Drivers leased from reused containers or from the broker
+            List<WebDriver> leasedDrivers = new ArrayList<>(dockerLeaseMap
+                    .getOrDefault(contextId, Collections.emptyList()));
+            brokerLeaseMap.getOrDefault(contextId, Collections.emptyList())
+                    .forEach(lease -> leasedDrivers.add(lease.getDriver()));
+            for (WebDriver driver : leasedDrivers) {
+                outputHandlers.put(driver,
+                        getOutputHandler(contextId, driver));
+                captures.put(driver, new BrowserDataCapture(
+                        () -> readBrowserData(null, driver, Optional.empty())));
+            }
+        }
+
+        ExecutorService executor = getCaptureExecutor(config);
+        captures.values().forEach(capture -> capture.submit(executor));
+        long timeoutNanos = TimeUnit.SECONDS
+                .toNanos(config.getGatherBrowserDataTimeoutSec());
+        for (Map.Entry<WebDriver, BrowserDataCapture> entry : captures
+                .entrySet()) {
+            WebDriver driver = entry.getKey();
+            String driverInfo = driver.toString();
+            try {
+                BrowserData browserData = entry.getValue().await(timeoutNanos);
+
+                // Screenshot
+                File screenshotFile = outputHandlers.get(driver)
+                        .getScreenshotFile(driver);
+                reportManager.addScreenshot(test,
+                        browserData.base64Screenshot, driverInfo,
+                        screenshotFile);
+                if (screenshotFile.exists()) {
+                    retentionManager.registerTestArtifact(screenshotFile,
+                            true);
+                }
+
+                // Logs
+                if (browserData.logs != null) {
+                    test.info(String.format(FORMATTED_INFO,
+                            driverInfo + " console", browserData.logs));
+                }
+            } catch (TimeoutException e) {
+                // A capture blocked in a WebDriver call is not interrupted,
+                // but a capture still waiting for a thread is discarded
+                entry.getValue().cancel();
+                log.warn("Timeout gathering browser data from {}", driver);
+                test.warning("Timeout gathering browser data from "
+                        + driverInfo);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("Exception gathering browser data from {}", driver,
+                        e);
+            }
+        }
+    }
+
+    private BrowserData readBrowserData(WebDriverManager wdm,
+            WebDriver driver, Optional<LogStreamer> logStreamer) {
+        BrowserData browserData = new BrowserData();
+        try {
+            browserData.base64Screenshot = ScreenshotManager
+                    .getBase64Screenshot(driver);
+        } catch (Exception e) {
+            log.trace("Exception taking screenshot of {}", driver, e);
+        }
+        if (logStreamer.isPresent()) {
+            // Logs already streamed to file: only the last entries are shown
+            logStreamer.get().poll();
+            browserData.logs = logStreamer.get().getLastEntries();
+            return browserData;
+        }
+        if (wdm == null) {
+            browserData.logs = readLeasedDriverLogs(driver);
+            return browserData;
+        }
+        List<Map<String, Object>> logs = wdm.getLogs(driver);
+        if (logs != null && !logs.isEmpty()) {
+            browserData.logs = logs.stream().map(LogStreamer::formatLogEntry)
+                    .collect(Collectors.joining(System.lineSeparator()));
+        }
+        return browserData;
+    }
+
+    private String readLeasedDriverLogs(WebDriver driver) {
+        // Leased drivers are not created by WebDriverManager, and so, their
+        // logs are read with the logging API of WebDriver (when supported)
+        try {
+            List<LogEntry> logs = driver.manage().logs().get(LogType.BROWSER)
+                    .getAll();
+            if (!logs.isEmpty()) {
+                return logs.stream()
+                        .map(entry -> String.format("[%s] [%s] %s",
+                                Instant.ofEpochMilli(entry.getTimestamp()),
+                                entry.getLevel(), entry.getMessage()))
+                        .collect(Collectors.joining(System.lineSeparator()));
+            }
+        } catch (Exception e) {
+            log.trace("Exception reading logs of {} ({})", driver,
+                    e.getMessage());
+        }
+        return null;
+    }
+
+    static class BrowserData {
+        String base64Screenshot;
+        String logs;
+    }
+
+    /**
+     * Capture of the browser data of a driver. Its timeout counts from the
+     * time the capture starts (or from the time it is submitted, while it is
+     * waiting for a thread), so slow browsers do not consume the time of the
+     * rest.
+     */
+    static class BrowserDataCapture implements Callable<BrowserData> {
+        Callable<BrowserData> reader;
+        long submitted;
+        volatile Long started;
+        Future<BrowserData> future;
+
+        BrowserDataCapture(Callable<BrowserData> reader) {
+            this.reader = reader;
+        }
+
+        void submit(ExecutorService executor) {
+            submitted = System.nanoTime();
+            future = executor.submit(this);
+        }
+
+        @Override
+        public BrowserData call() throws Exception {
+            started = System.nanoTime();
+            return reader.call();
+        }
+
+        BrowserData await(long timeoutNanos) throws InterruptedException,
+                ExecutionException, TimeoutException {
+            while (true) {
+                try {
+                    return future.get(
+                            Math.max(0, getDeadline(timeoutNanos)
+                                    - System.nanoTime()),
+                            TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    // Unless it started meanwhile (with its own timeout)
+                    if (getDeadline(timeoutNanos) <= System.nanoTime()) {
+                        throw e;
                     }
                 }
             }
         }
+
+        void cancel() {
+            future.cancel(true);
+        }
+
+        private long getDeadline(long timeoutNanos) {
+            Long startTime = started;
+            return (startTime != null ? startTime : submitted) + timeoutNanos;
+        }
     }
 
 }
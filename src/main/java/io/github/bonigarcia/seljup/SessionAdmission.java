@@ -0,0 +1,150 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+
+import io.github.bonigarcia.seljup.config.Config;
+
+/**
+ * Admission of new browser sessions depending on the memory of the machine
+ * running the tests. A session is admitted when the available memory, minus
+ * the memory expected for the new browsers (and for the browsers admitted but
+ * still starting), is above the configured threshold. Otherwise, the session
+ * waits until some memory is released. When the admission timeout expires,
+ * the session is admitted anyway (i.e., the admission delays the sessions,
+ * but it never fails them), and a warning is logged. The memory expected for
+ * each browser is the average resident memory of the process trees started
+ * by the JVM (i.e., driver and browser processes), or the configured browser
+ * memory when there are no processes yet.
+ *
+ * @author Boni Garcia
+ * @since 6.4.0
+ */
+public class SessionAdmission {
+
+    final Logger log = getLogger(lookup().lookupClass());
+
+    static final long POLL_INTERVAL_MS = 500;
+
+    Config config;
+    long reservedMb;
+
+    public SessionAdmission(Config config) {
+        this.config = config;
+    }
+
+    public Reservation admit(String testId, int sessions) {
+        int minAvailableMb = config.getAdmissionMinAvailableMb();
+        if (minAvailableMb <= 0) {
+            return new Reservation(0);
+        }
+        long start = System.currentTimeMillis();
+        long deadline = start
+                + TimeUnit.SECONDS.toMillis(config.getAdmissionTimeoutSec());
+        long requiredMb;
+        long availableMb;
+        synchronized (this) {
+            requiredMb = getBrowserMemoryMb() * Math.max(1, sessions);
+            availableMb = getAvailableMb();
+            while (availableMb - reservedMb - requiredMb < minAvailableMb) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    // Admitted anyway, since the threshold is a best effort
+                    log.warn(
+                            "Admission timeout for {}: {} MB available, {} MB reserved, and {} MB required (threshold {} MB)",
+                            testId, availableMb, reservedMb, requiredMb,
+                            minAvailableMb);
+                    break;
+                }
+                try {
+                    wait(Math.min(POLL_INTERVAL_MS, remaining));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                requiredMb = getBrowserMemoryMb() * Math.max(1, sessions);
+                availableMb = getAvailableMb();
+            }
+            reservedMb += requiredMb;
+        }
+
+        long waited = System.currentTimeMillis() - start;
+        if (waited >= POLL_INTERVAL_MS) {
+            log.info(
+                    "Browser session(s) of {} admitted after waiting {} ms ({} MB available, {} MB required)",
+                    testId, waited, availableMb, requiredMb);
+        } else {
+            log.trace("Browser session(s) of {} admitted ({} MB available)",
+                    testId, availableMb);
+        }
+        return new Reservation(requiredMb);
+    }
+
+    protected long getAvailableMb() {
+        return SystemMemory.getAvailableMb();
+    }
+
+    protected long getBrowserMemoryMb() {
+        List<ProcessHandle> children = ProcessHandle.current().children()
+                .toList();
+        long rssMb = 0;
+        int processTrees = 0;
+        for (ProcessHandle child : children) {
+            long childRssMb = SystemMemory.getRssMb(child)
+                    + SystemMemory.getDescendantsRssMb(child);
+            if (childRssMb > 0) {
+                rssMb += childRssMb;
+                processTrees++;
+            }
+        }
+        return processTrees > 0 ? rssMb / processTrees
+                : config.getParallelismBrowserMemoryMb();
+    }
+
+    synchronized void release(long mb) {
+        reservedMb -= mb;
+        notifyAll();
+    }
+
+    public class Reservation implements AutoCloseable {
+
+        long mb;
+
+        Reservation(long mb) {
+            this.mb = mb;
+        }
+
+        @Override
+        public void close() {
+            // Once the browsers are started, their memory is no longer
+            // available, so the reservation is not required anymore
+            if (mb > 0) {
+                release(mb);
+                mb = 0;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,235 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+
+import io.github.bonigarcia.seljup.config.Config;
+
+/**
+ * Machine-wide quota of browser sessions, shared by all the JVMs running tests
+ * in the same machine (e.g., the forks of Maven Surefire). The live sessions
+ * are registered in a small memory-mapped file, in which each slot contains
+ * the process id (and the process start time) of the JVM holding it. The
+ * access to this file is coordinated with file locks. The slots held by JVMs
+ * no longer alive (e.g., crashed forks) are reclaimed.
+ *
+ * @author Boni Garcia
+ * @since 6.4.0
+ */
+public class SessionQuota implements AutoCloseable {
+
+    final Logger log = getLogger(lookup().lookupClass());
+
+    static final int MAX_SLOTS = 256;
+    static final int SLOT_SIZE = 2 * Long.BYTES;
+    static final long POLL_INTERVAL_MS = 500;
+
+    Config config;
+    Path quotaFile;
+    FileChannel channel;
+    MappedByteBuffer buffer;
+    long pid;
+    long startTime;
+
+    public SessionQuota(Config config) throws IOException {
+        this.config = config;
+        this.quotaFile = getQuotaFile(config);
+        Path parent = quotaFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = FileChannel.open(quotaFile, CREATE, READ, WRITE);
+        this.buffer = channel.map(READ_WRITE, 0,
+                (long) MAX_SLOTS * SLOT_SIZE);
+
+        ProcessHandle current = ProcessHandle.current();
+        this.pid = current.pid();
+        this.startTime = getStartTime(current);
+        log.debug("Machine-wide quota of {} browser sessions in {}",
+                getMaxSessions(), quotaFile);
+    }
+
+    public Lease acquire(String testId, int sessions) {
+        int required = Math.max(1, sessions);
+        long start = System.currentTimeMillis();
+        long deadline = start
+                + TimeUnit.SECONDS.toMillis(config.getQuotaTimeoutSec());
+        try {
+            while (true) {
+                Optional<List<Integer>> slots = tryAcquire(required);
+                long waited = System.currentTimeMillis() - start;
+                if (slots.isPresent()) {
+                    if (waited >= POLL_INTERVAL_MS) {
+                        log.info(
+                                "Browser session(s) of {} admitted by the machine-wide quota after waiting {} ms",
+                                testId, waited);
+                    }
+                    return new Lease(slots.get());
+                }
+                if (System.currentTimeMillis() >= deadline) {
+                    log.warn(
+                            "Timeout waiting for the machine-wide quota of {} browser sessions in {} ({} required by {})",
+                            getMaxSessions(), quotaFile, required, testId);
+                    return new Lease(List.of());
+                }
+                Thread.sleep(POLL_INTERVAL_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.warn("Exception accessing the session quota file {}",
+                    quotaFile, e);
+        }
+        return new Lease(List.of());
+    }
+
+    public Path getQuotaFile() {
+        return quotaFile;
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.trace("Exception closing {} ({})", quotaFile, e.getMessage());
+        }
+    }
+
+    synchronized Optional<List<Integer>> tryAcquire(int required)
+            throws IOException {
+        try (FileLock lock = channel.lock()) {
+            List<Integer> freeSlots = new ArrayList<>();
+            int liveSessions = 0;
+            for (int slot = 0; slot < MAX_SLOTS; slot++) {
+                long slotPid = buffer.getLong(slot * SLOT_SIZE);
+                if (slotPid == 0) {
+                    freeSlots.add(slot);
+                } else if (isAlive(slotPid,
+                        buffer.getLong(slot * SLOT_SIZE + Long.BYTES))) {
+                    liveSessions++;
+                } else {
+                    log.debug("Reclaiming session slot {} held by process {}",
+                            slot, slotPid);
+                    writeSlot(slot, 0, 0);
+                    freeSlots.add(slot);
+                }
+            }
+            if (liveSessions + required > getMaxSessions()
+                    || freeSlots.size() < required) {
+                log.trace("Session quota exhausted ({} live sessions)",
+                        liveSessions);
+                return Optional.empty();
+            }
+            List<Integer> slots = freeSlots.subList(0, required);
+            slots.forEach(slot -> writeSlot(slot, pid, startTime));
+            buffer.force();
+            return Optional.of(new ArrayList<>(slots));
+        }
+    }
+
+    synchronized void release(List<Integer> slots) {
+        try (FileLock lock = channel.lock()) {
+            for (int slot : slots) {
+                // Only the slots still held by this process are released
+                if (buffer.getLong(slot * SLOT_SIZE) == pid) {
+                    writeSlot(slot, 0, 0);
+                }
+            }
+            buffer.force();
+        } catch (IOException e) {
+            log.warn("Exception releasing session slots {} in {}", slots,
+                    quotaFile, e);
+        }
+    }
+
+    private void writeSlot(int slot, long slotPid, long slotStartTime) {
+        buffer.putLong(slot * SLOT_SIZE, slotPid);
+        buffer.putLong(slot * SLOT_SIZE + Long.BYTES, slotStartTime);
+    }
+
+    private boolean isAlive(long slotPid, long slotStartTime) {
+        // The start time avoids confusing a reused process id
+        return ProcessHandle.of(slotPid).filter(ProcessHandle::isAlive)
+                .filter(process -> slotStartTime == 0
+                        || getStartTime(process) == 0
+                        || getStartTime(process) == slotStartTime)
+                .isPresent();
+    }
+
+    private int getMaxSessions() {
+        return Math.min(config.getQuotaMaxSessions(), MAX_SLOTS);
+    }
+
+    private static long getStartTime(ProcessHandle process) {
+        return process.info().startInstant().map(Instant::toEpochMilli)
+                .orElse(0L);
+    }
+
+    private static Path getQuotaFile(Config config) {
+        String quotaFile = config.getQuotaFile();
+        if (quotaFile == null || quotaFile.isEmpty()) {
+            return Paths.get(System.getProperty("java.io.tmpdir"),
+                    "selenium-jupiter-quota.bin");
+        }
+        return Paths.get(quotaFile);
+    }
+
+    public class Lease implements AutoCloseable {
+
+        List<Integer> slots;
+
+        Lease(List<Integer> slots) {
+            this.slots = slots;
+        }
+
+        public boolean isAcquired() {
+            return !slots.isEmpty();
+        }
+
+        @Override
+        public void close() {
+            if (!slots.isEmpty()) {
+                release(slots);
+                slots = List.of();
+            }
+        }
+
+    }
+
+}
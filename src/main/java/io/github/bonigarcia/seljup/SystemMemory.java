@@ -0,0 +1,197 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.OptionalLong;
+
+import org.slf4j.Logger;
+
+import com.sun.management.OperatingSystemMXBean;
+
+/**
+ * Physical memory of the machine running the tests. In Linux, the available
+ * memory is read from /proc/meminfo (MemAvailable, i.e., including the
+ * reclaimable cache) and bounded by the cgroup limit (v2 or v1) when running
+ * in a container, minus the working set of the cgroup (i.e., its usage
+ * without the inactive page cache, which is reclaimable). Otherwise, the free memory reported by the JVM is used. The
+ * resident memory (RSS) of processes is also read from /proc (when
+ * available).
+ *
+ * @author Boni Garcia
+ * @since 6.4.0
+ */
+public class SystemMemory {
+
+    static final Logger log = getLogger(lookup().lookupClass());
+
+    static final Path MEMINFO = Paths.get("/proc/meminfo");
+    static final Path CGROUP_MEMORY_MAX = Paths
+            .get("/sys/fs/cgroup/memory.max");
+    static final Path CGROUP_MEMORY_CURRENT = Paths
+            .get("/sys/fs/cgroup/memory.current");
+    static final Path CGROUP_V1_MEMORY_LIMIT = Paths
+            .get("/sys/fs/cgroup/memory/memory.limit_in_bytes");
+    static final Path CGROUP_V1_MEMORY_USAGE = Paths
+            .get("/sys/fs/cgroup/memory/memory.usage_in_bytes");
+    static final Path CGROUP_MEMORY_STAT = Paths
+            .get("/sys/fs/cgroup/memory.stat");
+    static final Path CGROUP_V1_MEMORY_STAT = Paths
+            .get("/sys/fs/cgroup/memory/memory.stat");
+    static final String INACTIVE_FILE = "inactive_file";
+    static final String V1_INACTIVE_FILE = "total_inactive_file";
+    static final long MB = 1024 * 1024;
+
+    private SystemMemory() {
+    }
+
+    public static long getAvailableMb() {
+        long available = readMeminfo("MemAvailable:")
+                .orElseGet(() -> getOperatingSystem().getFreeMemorySize());
+        OptionalLong cgroupMax = getCgroupLimit();
+        OptionalLong cgroupCurrent = getCgroupUsage();
+        if (cgroupMax.isPresent() && cgroupCurrent.isPresent()) {
+            available = Math.min(available,
+                    cgroupMax.getAsLong() - cgroupCurrent.getAsLong());
+        }
+        return Math.max(0, available / MB);
+    }
+
+    public static long getTotalMb() {
+        long total = readMeminfo("MemTotal:")
+                .orElseGet(() -> getOperatingSystem().getTotalMemorySize());
+        OptionalLong cgroupMax = getCgroupLimit();
+        if (cgroupMax.isPresent()) {
+            total = Math.min(total, cgroupMax.getAsLong());
+        }
+        return total / MB;
+    }
+
+    public static long getRssMb(ProcessHandle process) {
+        return readStatus(process.pid(), "VmRSS:").orElse(0) / MB;
+    }
+
+    public static long getDescendantsRssMb(ProcessHandle process) {
+        return process.descendants()
+                .mapToLong(descendant -> readStatus(descendant.pid(), "VmRSS:")
+                        .orElse(0))
+                .sum() / MB;
+    }
+
+    static OperatingSystemMXBean getOperatingSystem() {
+        return (OperatingSystemMXBean) ManagementFactory
+                .getOperatingSystemMXBean();
+    }
+
+    static OptionalLong getCgroupLimit() {
+        // Without limit, cgroup v1 reports a huge value (bounded anyway by
+        // the memory of the machine)
+        OptionalLong limit = readLong(CGROUP_MEMORY_MAX);
+        return limit.isPresent() ? limit : readLong(CGROUP_V1_MEMORY_LIMIT);
+    }
+
+    static OptionalLong getCgroupUsage() {
+        // Working set, i.e., without the inactive page cache (counted in the
+        // usage of the cgroup, although it is reclaimed when needed)
+        OptionalLong usage = readLong(CGROUP_MEMORY_CURRENT);
+        if (usage.isPresent()) {
+            return OptionalLong.of(getWorkingSet(usage.getAsLong(),
+                    readStat(CGROUP_MEMORY_STAT, INACTIVE_FILE)));
+        }
+        usage = readLong(CGROUP_V1_MEMORY_USAGE);
+        if (usage.isPresent()) {
+            return OptionalLong.of(getWorkingSet(usage.getAsLong(),
+                    readStat(CGROUP_V1_MEMORY_STAT, V1_INACTIVE_FILE)));
+        }
+        return OptionalLong.empty();
+    }
+
+    static long getWorkingSet(long usage, OptionalLong inactiveFile) {
+        return Math.max(0, usage - inactiveFile.orElse(0));
+    }
+
+    static OptionalLong readMeminfo(String field) {
+        return readKbField(MEMINFO, field);
+    }
+
+    static OptionalLong readStatus(long pid, String field) {
+        return readKbField(Paths.get("/proc", String.valueOf(pid), "status"),
+                field);
+    }
+
+    static OptionalLong readKbField(Path path, String field) {
+        try {
+            if (Files.isReadable(path)) {
+                List<String> lines = Files.readAllLines(path);
+                for (String line : lines) {
+                    if (line.startsWith(field)) {
+                        // e.g., "MemAvailable:   12345678 kB"
+                        String[] tokens = line.trim().split("\\s+");
+                        return OptionalLong
+                                .of(Long.parseLong(tokens[1]) * 1024);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.trace("Exception reading {} from {} ({})", field, path,
+                    e.getMessage());
+        }
+        return OptionalLong.empty();
+    }
+
+    static OptionalLong readStat(Path path, String key) {
+        try {
+            if (Files.isReadable(path)) {
+                List<String> lines = Files.readAllLines(path);
+                for (String line : lines) {
+                    // e.g., "inactive_file 12345678" (in bytes)
+                    String[] tokens = line.trim().split("\\s+");
+                    if (tokens.length == 2 && tokens[0].equals(key)) {
+                        return OptionalLong.of(Long.parseLong(tokens[1]));
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.trace("Exception reading {} from {} ({})", key, path,
+                    e.getMessage());
+        }
+        return OptionalLong.empty();
+    }
+
+    static OptionalLong readLong(Path path) {
+        try {
+            if (Files.isReadable(path)) {
+                // The value "max" means no limit
+                String value = new String(Files.readAllBytes(path)).trim();
+                if (!value.equals("max")) {
+                    return OptionalLong.of(Long.parseLong(value));
+                }
+            }
+        } catch (Exception e) {
+            log.trace("Exception reading {} ({})", path, e.getMessage());
+        }
+        return OptionalLong.empty();
+    }
+
+}
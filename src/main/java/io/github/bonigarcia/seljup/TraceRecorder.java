@@ -0,0 +1,211 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+
+import com.google.gson.Gson;
+
+import io.github.bonigarcia.seljup.NetworkRecorder.Listener;
+
+/**
+ * Recorder of Chrome traces (using the DevTools Tracing domain). The trace
+ * events are written in chunks (as reported by the browser) to a gzipped JSON
+ * file, which can be loaded in the Performance panel of Chrome DevTools. Like
+ * in {@link NetworkRecorder}, the DevTools session is shared, and so the
+ * recorder only detaches its own listeners when stopped.
+ *
+ * @author Boni Garcia
+ * @since 6.4.0
+ */
+public class TraceRecorder implements AutoCloseable {
+
+    final Logger log = getLogger(lookup().lookupClass());
+
+    WebDriver driver;
+    DevTools devTools;
+    File traceFile;
+    Gson gson;
+    Writer writer;
+    boolean firstEvent;
+    CountDownLatch tracingComplete;
+    boolean stopped;
+    List<Listener> listeners;
+
+    public TraceRecorder(WebDriver driver, DevTools devTools, File traceFile) {
+        this.driver = driver;
+        this.devTools = devTools;
+        this.traceFile = traceFile;
+        this.gson = new Gson();
+        this.tracingComplete = new CountDownLatch(1);
+        this.listeners = new ArrayList<>();
+    }
+
+    /**
+     * Start tracing. A failure starting the trace in the browser (e.g., when
+     * another client is already tracing) is logged, and the recorder is
+     * closed, since the test can go on without the trace.
+     *
+     * @return true if the tracing has been started
+     */
+    public boolean start(String categories) {
+        try {
+            writer = new OutputStreamWriter(new GZIPOutputStream(
+                    Files.newOutputStream(traceFile.toPath())), UTF_8);
+            writer.write("[");
+            firstEvent = true;
+        } catch (IOException e) {
+            throw new SeleniumJupiterException(
+                    "Exception creating trace file " + traceFile, e);
+        }
+        addListener("Tracing.dataCollected", this::onDataCollected);
+        addListener("Tracing.tracingComplete",
+                params -> tracingComplete.countDown());
+
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("transferMode", "ReportEvents");
+        params.put("categories", categories);
+        try {
+            devTools.send(new Command<>("Tracing.start", params));
+        } catch (Exception e) {
+            log.warn("Exception starting tracing in {}", driver, e);
+            close();
+            try {
+                Files.deleteIfExists(traceFile.toPath());
+            } catch (IOException ioe) {
+                log.trace("Exception deleting {}", traceFile, ioe);
+            }
+            return false;
+        }
+        log.debug("Tracing {} to {}", driver, traceFile);
+        return true;
+    }
+
+    private void addListener(String method,
+            Consumer<Map<String, Object>> handler) {
+        Listener listener = new Listener(handler);
+        listeners.add(listener);
+        devTools.addListener(new Event<Map<String, Object>>(method,
+                input -> input.read(Json.MAP_TYPE)), listener);
+    }
+
+    public File stop(long timeoutSec) {
+        synchronized (this) {
+            if (stopped || writer == null) {
+                return null;
+            }
+            stopped = true;
+        }
+        try {
+            devTools.send(new Command<>("Tracing.end", Collections.emptyMap()));
+            if (!tracingComplete.await(timeoutSec, TimeUnit.SECONDS)) {
+                log.warn("Timeout waiting for the trace of {}", driver);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Exception stopping tracing in {}", driver, e);
+        }
+        listeners.forEach(Listener::detach);
+        return closeWriter() ? traceFile : null;
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    public File getTraceFile() {
+        return traceFile;
+    }
+
+    public synchronized boolean isStopped() {
+        return stopped;
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (stopped) {
+                return;
+            }
+            stopped = true;
+        }
+        listeners.forEach(Listener::detach);
+        closeWriter();
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized void onDataCollected(Map<String, Object> params) {
+        Object value = params.get("value");
+        if (writer == null || !(value instanceof List)) {
+            return;
+        }
+        try {
+            for (Object traceEvent : (List<Object>) value) {
+                if (!firstEvent) {
+                    writer.write(",");
+                }
+                writer.write(System.lineSeparator());
+                gson.toJson(traceEvent, writer);
+                firstEvent = false;
+            }
+        } catch (IOException e) {
+            log.warn("Exception writing trace file {}", traceFile, e);
+        }
+    }
+
+    private synchronized boolean closeWriter() {
+        if (writer == null) {
+            return false;
+        }
+        try {
+            writer.write(System.lineSeparator() + "]");
+            writer.close();
+            return true;
+        } catch (IOException e) {
+            log.warn("Exception closing trace file {}", traceFile, e);
+            return false;
+        } finally {
+            writer = null;
+        }
+    }
+
+}
@@ -78,6 +78,102 @@ public class Config {
 
     ConfigKey<String> reportFileName = new ConfigKey<>(
             "sel.jup.report.file.name", String.class);
+    ConfigKey<Integer> reportFlushEvery = new ConfigKey<>(
+            "sel.jup.report.flush.every", Integer.class);
+    ConfigKey<Integer> reportMaxTests = new ConfigKey<>(
+            "sel.jup.report.max.tests", Integer.class);
+    ConfigKey<Integer> reportInlineMaxSize = new ConfigKey<>(
+            "sel.jup.report.inline.max.size", Integer.class);
+
+    ConfigKey<Integer> gatherBrowserDataTimeoutSec = new ConfigKey<>(
+            "sel.jup.gather.browser.data.timeout.sec", Integer.class);
+    ConfigKey<Integer> asyncThreads = new ConfigKey<>("sel.jup.async.threads",
+            Integer.class);
+
+    ConfigKey<Boolean> logStreaming = new ConfigKey<>(
+            "sel.jup.log.streaming", Boolean.class);
+    ConfigKey<Integer> logStreamingIntervalMs = new ConfigKey<>(
+            "sel.jup.log.streaming.interval.ms", Integer.class);
+    ConfigKey<Integer> logStreamingBufferSize = new ConfigKey<>(
+            "sel.jup.log.streaming.buffer.size", Integer.class);
+
+    ConfigKey<Boolean> resultLog = new ConfigKey<>("sel.jup.result.log",
+            Boolean.class);
+    ConfigKey<String> resultLogFileName = new ConfigKey<>(
+            "sel.jup.result.log.file.name", String.class);
+
+    ConfigKey<Boolean> networkHar = new ConfigKey<>("sel.jup.network.har",
+            Boolean.class);
+
+    ConfigKey<Boolean> tracing = new ConfigKey<>("sel.jup.tracing",
+            Boolean.class);
+    ConfigKey<String> tracingCategories = new ConfigKey<>(
+            "sel.jup.tracing.categories", String.class);
+    ConfigKey<Integer> tracingTimeoutSec = new ConfigKey<>(
+            "sel.jup.tracing.timeout.sec", Integer.class);
+    ConfigKey<Boolean> processAccounting = new ConfigKey<>(
+            "sel.jup.process.accounting", Boolean.class);
+
+    ConfigKey<Boolean> htmlUnitPool = new ConfigKey<>(
+            "sel.jup.htmlunit.pool", Boolean.class);
+    ConfigKey<Integer> htmlUnitPoolSize = new ConfigKey<>(
+            "sel.jup.htmlunit.pool.size", Integer.class);
+
+    ConfigKey<Boolean> dockerReuse = new ConfigKey<>("sel.jup.docker.reuse",
+            Boolean.class);
+    ConfigKey<Integer> dockerReuseMaxSessions = new ConfigKey<>(
+            "sel.jup.docker.reuse.max.sessions", Integer.class);
+    ConfigKey<Boolean> dockerPreload = new ConfigKey<>(
+            "sel.jup.docker.preload", Boolean.class);
+    ConfigKey<Integer> dockerPreloadTimeoutSec = new ConfigKey<>(
+            "sel.jup.docker.preload.timeout.sec", Integer.class);
+    ConfigKey<Boolean> dockerElastic = new ConfigKey<>(
+            "sel.jup.docker.elastic", Boolean.class);
+    ConfigKey<Integer> dockerElasticConcurrency = new ConfigKey<>(
+            "sel.jup.docker.elastic.concurrency", Integer.class);
+    ConfigKey<Integer> dockerElasticReady = new ConfigKey<>(
+            "sel.jup.docker.elastic.ready", Integer.class);
+    ConfigKey<Integer> dockerElasticTimeoutSec = new ConfigKey<>(
+            "sel.jup.docker.elastic.timeout.sec", Integer.class);
+
+    ConfigKey<Integer> parallelismBrowserMemoryMb = new ConfigKey<>(
+            "sel.jup.parallelism.browser.memory.mb", Integer.class);
+    ConfigKey<Integer> parallelismMax = new ConfigKey<>(
+            "sel.jup.parallelism.max", Integer.class);
+
+    ConfigKey<Integer> resourceLocksCapacity = new ConfigKey<>(
+            "sel.jup.resource.locks.capacity", Integer.class);
+    ConfigKey<Integer> admissionMinAvailableMb = new ConfigKey<>(
+            "sel.jup.admission.min.available.mb", Integer.class);
+    ConfigKey<Integer> admissionTimeoutSec = new ConfigKey<>(
+            "sel.jup.admission.timeout.sec", Integer.class);
+    ConfigKey<Integer> quotaMaxSessions = new ConfigKey<>(
+            "sel.jup.quota.max.sessions", Integer.class);
+    ConfigKey<String> quotaFile = new ConfigKey<>("sel.jup.quota.file",
+            String.class);
+    ConfigKey<Integer> quotaTimeoutSec = new ConfigKey<>(
+            "sel.jup.quota.timeout.sec", Integer.class);
+    ConfigKey<Boolean> broker = new ConfigKey<>("sel.jup.broker",
+            Boolean.class);
+    ConfigKey<Integer> brokerPort = new ConfigKey<>("sel.jup.broker.port",
+            Integer.class);
+    ConfigKey<String> brokerBrowsers = new ConfigKey<>(
+            "sel.jup.broker.browsers", String.class);
+    ConfigKey<Integer> brokerPoolSize = new ConfigKey<>(
+            "sel.jup.broker.pool.size", Integer.class);
+    ConfigKey<Integer> brokerMaxSessions = new ConfigKey<>(
+            "sel.jup.broker.max.sessions", Integer.class);
+    ConfigKey<Integer> brokerTimeoutSec = new ConfigKey<>(
+            "sel.jup.broker.timeout.sec", Integer.class);
+
+    ConfigKey<Integer> retentionMaxSizeMb = new ConfigKey<>(
+            "sel.jup.retention.max.size.mb", Integer.class);
+    ConfigKey<Integer> retentionMaxAgeDays = new ConfigKey<>(
+            "sel.jup.retention.max.age.days", Integer.class);
+    ConfigKey<Integer> retentionFailedOnlyAfterRuns = new ConfigKey<>(
+            "sel.jup.retention.failed.only.after.runs", Integer.class);
+    ConfigKey<String> retentionRunId = new ConfigKey<>(
+            "sel.jup.retention.run.id", String.class);
 
     private <T> T resolve(ConfigKey<T> configKey) {
         String strValue = null;
@@ -260,6 +356,350 @@ public class Config {
         this.reportFileName.setValue(value);
     }
 
+    public int getReportFlushEvery() {
+        return resolve(reportFlushEvery);
+    }
+
+    public void setReportFlushEvery(int value) {
+        this.reportFlushEvery.setValue(value);
+    }
+
+    public int getReportMaxTests() {
+        return resolve(reportMaxTests);
+    }
+
+    public void setReportMaxTests(int value) {
+        this.reportMaxTests.setValue(value);
+    }
+
+    public int getReportInlineMaxSize() {
+        return resolve(reportInlineMaxSize);
+    }
+
+    public void setReportInlineMaxSize(int value) {
+        this.reportInlineMaxSize.setValue(value);
+    }
+
+    public int getGatherBrowserDataTimeoutSec() {
+        return resolve(gatherBrowserDataTimeoutSec);
+    }
+
+    public void setGatherBrowserDataTimeoutSec(int value) {
+        this.gatherBrowserDataTimeoutSec.setValue(value);
+    }
+
+    public int getAsyncThreads() {
+        return resolve(asyncThreads);
+    }
+
+    public void setAsyncThreads(int value) {
+        this.asyncThreads.setValue(value);
+    }
+
+    public boolean isLogStreaming() {
+        return resolve(logStreaming);
+    }
+
+    public void setLogStreaming(boolean value) {
+        this.logStreaming.setValue(value);
+    }
+
+    public int getLogStreamingIntervalMs() {
+        return resolve(logStreamingIntervalMs);
+    }
+
+    public void setLogStreamingIntervalMs(int value) {
+        this.logStreamingIntervalMs.setValue(value);
+    }
+
+    public int getLogStreamingBufferSize() {
+        return resolve(logStreamingBufferSize);
+    }
+
+    public void setLogStreamingBufferSize(int value) {
+        this.logStreamingBufferSize.setValue(value);
+    }
+
+    public boolean isResultLog() {
+        return resolve(resultLog);
+    }
+
+    public void setResultLog(boolean value) {
+        this.resultLog.setValue(value);
+    }
+
+    public String getResultLogFileName() {
+        return resolve(resultLogFileName);
+    }
+
+    public void setResultLogFileName(String value) {
+        this.resultLogFileName.setValue(value);
+    }
+
+    public boolean isNetworkHar() {
+        return resolve(networkHar);
+    }
+
+    public void setNetworkHar(boolean value) {
+        this.networkHar.setValue(value);
+    }
+
+    public boolean isTracing() {
+        return resolve(tracing);
+    }
+
+    public void setTracing(boolean value) {
+        this.tracing.setValue(value);
+    }
+
+    public String getTracingCategories() {
+        return resolve(tracingCategories);
+    }
+
+    public void setTracingCategories(String value) {
+        this.tracingCategories.setValue(value);
+    }
+
+    public int getTracingTimeoutSec() {
+        return resolve(tracingTimeoutSec);
+    }
+
+    public void setTracingTimeoutSec(int value) {
+        this.tracingTimeoutSec.setValue(value);
+    }
+
+    public boolean isProcessAccounting() {
+        return resolve(processAccounting);
+    }
+
+    public void setProcessAccounting(boolean value) {
+        this.processAccounting.setValue(value);
+    }
+
+    public boolean isHtmlUnitPool() {
+        return resolve(htmlUnitPool);
+    }
+
+    public void setHtmlUnitPool(boolean value) {
+        this.htmlUnitPool.setValue(value);
+    }
+
+    public int getHtmlUnitPoolSize() {
+        return resolve(htmlUnitPoolSize);
+    }
+
+    public void setHtmlUnitPoolSize(int value) {
+        this.htmlUnitPoolSize.setValue(value);
+    }
+
+    public boolean isDockerReuse() {
+        return resolve(dockerReuse);
+    }
+
+    public void setDockerReuse(boolean value) {
+        this.dockerReuse.setValue(value);
+    }
+
+    public int getDockerReuseMaxSessions() {
+        return resolve(dockerReuseMaxSessions);
+    }
+
+    public void setDockerReuseMaxSessions(int value) {
+        this.dockerReuseMaxSessions.setValue(value);
+    }
+
+    public boolean isDockerPreload() {
+        return resolve(dockerPreload);
+    }
+
+    public void setDockerPreload(boolean value) {
+        this.dockerPreload.setValue(value);
+    }
+
+    public int getDockerPreloadTimeoutSec() {
+        return resolve(dockerPreloadTimeoutSec);
+    }
+
+    public void setDockerPreloadTimeoutSec(int value) {
+        this.dockerPreloadTimeoutSec.setValue(value);
+    }
+
+    public boolean isDockerElastic() {
+        return resolve(dockerElastic);
+    }
+
+    public void setDockerElastic(boolean value) {
+        this.dockerElastic.setValue(value);
+    }
+
+    public int getDockerElasticConcurrency() {
+        return resolve(dockerElasticConcurrency);
+    }
+
+    public void setDockerElasticConcurrency(int value) {
+        this.dockerElasticConcurrency.setValue(value);
+    }
+
+    public int getDockerElasticReady() {
+        return resolve(dockerElasticReady);
+    }
+
+    public void setDockerElasticReady(int value) {
+        this.dockerElasticReady.setValue(value);
+    }
+
+    public int getDockerElasticTimeoutSec() {
+        return resolve(dockerElasticTimeoutSec);
+    }
+
+    public void setDockerElasticTimeoutSec(int value) {
+        this.dockerElasticTimeoutSec.setValue(value);
+    }
+
+    public int getParallelismBrowserMemoryMb() {
+        return resolve(parallelismBrowserMemoryMb);
+    }
+
+    public void setParallelismBrowserMemoryMb(int value) {
+        this.parallelismBrowserMemoryMb.setValue(value);
+    }
+
+    public int getParallelismMax() {
+        return resolve(parallelismMax);
+    }
+
+    public void setParallelismMax(int value) {
+        this.parallelismMax.setValue(value);
+    }
+
+    public int getResourceLocksCapacity() {
+        return resolve(resourceLocksCapacity);
+    }
+
+    public void setResourceLocksCapacity(int value) {
+        this.resourceLocksCapacity.setValue(value);
+    }
+
+    public int getAdmissionMinAvailableMb() {
+        return resolve(admissionMinAvailableMb);
+    }
+
+    public void setAdmissionMinAvailableMb(int value) {
+        this.admissionMinAvailableMb.setValue(value);
+    }
+
+    public int getAdmissionTimeoutSec() {
+        return resolve(admissionTimeoutSec);
+    }
+
+    public void setAdmissionTimeoutSec(int value) {
+        this.admissionTimeoutSec.setValue(value);
+    }
+
+    public int getQuotaMaxSessions() {
+        return resolve(quotaMaxSessions);
+    }
+
+    public void setQuotaMaxSessions(int value) {
+        this.quotaMaxSessions.setValue(value);
+    }
+
+    public String getQuotaFile() {
+        return resolve(quotaFile);
+    }
+
+    public void setQuotaFile(String value) {
+        this.quotaFile.setValue(value);
+    }
+
+    public int getQuotaTimeoutSec() {
+        return resolve(quotaTimeoutSec);
+    }
+
+    public void setQuotaTimeoutSec(int value) {
+        this.quotaTimeoutSec.setValue(value);
+    }
+
+    public boolean isBroker() {
+        return resolve(broker);
+    }
+
+    public void setBroker(boolean value) {
+        this.broker.setValue(value);
+    }
+
+    public int getBrokerPort() {
+        return resolve(brokerPort);
+    }
+
+    public void setBrokerPort(int value) {
+        this.brokerPort.setValue(value);
+    }
+
+    public String getBrokerBrowsers() {
+        return resolve(brokerBrowsers);
+    }
+
+    public void setBrokerBrowsers(String value) {
+        this.brokerBrowsers.setValue(value);
+    }
+
+    public int getBrokerPoolSize() {
+        return resolve(brokerPoolSize);
+    }
+
+    public void setBrokerPoolSize(int value) {
+        this.brokerPoolSize.setValue(value);
+    }
+
+    public int getBrokerMaxSessions() {
+        return resolve(brokerMaxSessions);
+    }
+
+    public void setBrokerMaxSessions(int value) {
+        this.brokerMaxSessions.setValue(value);
+    }
+
+    public int getBrokerTimeoutSec() {
+        return resolve(brokerTimeoutSec);
+    }
+
+    public void setBrokerTimeoutSec(int value) {
+        this.brokerTimeoutSec.setValue(value);
+    }
+
+    public int getRetentionMaxSizeMb() {
+        return resolve(retentionMaxSizeMb);
+    }
+
+    public void setRetentionMaxSizeMb(int value) {
+        this.retentionMaxSizeMb.setValue(value);
+    }
+
+    public int getRetentionMaxAgeDays() {
+        return resolve(retentionMaxAgeDays);
+    }
+
+    public void setRetentionMaxAgeDays(int value) {
+        this.retentionMaxAgeDays.setValue(value);
+    }
+
+    public int getRetentionFailedOnlyAfterRuns() {
+        return resolve(retentionFailedOnlyAfterRuns);
+    }
+
+    public void setRetentionFailedOnlyAfterRuns(int value) {
+        this.retentionFailedOnlyAfterRuns.setValue(value);
+    }
+
+    public String getRetentionRunId() {
+        return resolve(retentionRunId);
+    }
+
+    public void setRetentionRunId(String value) {
+        this.retentionRunId.setValue(value);
+    }
+
     public WebDriverManager getManager() {
         return manager;
     }
@@ -290,6 +730,46 @@ public class Config {
         setScreenshotWhenFailure(true);
     }
 
+    public void enableLogStreaming() {
+        setLogStreaming(true);
+    }
+
+    public void enableResultLog() {
+        setResultLog(true);
+    }
+
+    public void enableNetworkHar() {
+        setNetworkHar(true);
+    }
+
+    public void enableTracing() {
+        setTracing(true);
+    }
+
+    public void enableProcessAccounting() {
+        setProcessAccounting(true);
+    }
+
+    public void enableHtmlUnitPool() {
+        setHtmlUnitPool(true);
+    }
+
+    public void enableDockerReuse() {
+        setDockerReuse(true);
+    }
+
+    public void enableDockerPreload() {
+        setDockerPreload(true);
+    }
+
+    public void enableDockerElastic() {
+        setDockerElastic(true);
+    }
+
+    public void enableBroker() {
+        setBroker(true);
+    }
+
     public void useSurefireOutputFolder() {
         setOutputFolder(SUREFIRE_REPORTS_KEY);
     }
@@ -16,17 +16,23 @@
  */
 package io.github.bonigarcia.seljup.test.annotations;
 
+import static io.github.bonigarcia.seljup.BrowserType.CHROME;
+import static io.github.bonigarcia.seljup.BrowserType.EDGE;
+import static io.github.bonigarcia.seljup.BrowserType.FIREFOX;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
 
 import io.github.bonigarcia.seljup.AnnotationsReader;
+import io.github.bonigarcia.seljup.DockerBrowser;
 import io.github.bonigarcia.seljup.Options;
 import io.github.bonigarcia.seljup.SeleniumJupiterException;
 
@@ -63,6 +69,41 @@ class AnnotationsReaderTest {
         assertThat(optionsB.getId()).isEqualTo("B");
     }
 
+    @Test
+    void testGetsOptionsFromAnnotatedFieldInParentClass() throws Exception {
+        Optional<Object> childInstance = Optional.of(new ChildWithOptions());
+        CapabilitiesA optionsA = annotationsReader.getFromAnnotatedField(
+                childInstance, Options.class, CapabilitiesA.class);
+        assertThat(optionsA).isNotNull();
+        assertThat(optionsA.getId()).isEqualTo("child");
+
+        CapabilitiesB optionsB = annotationsReader.getFromAnnotatedField(
+                childInstance, Options.class, CapabilitiesB.class);
+        assertThat(optionsB).isNotNull();
+        assertThat(optionsB.getId()).isEqualTo("B");
+    }
+
+    @Test
+    void testOnlyReadsSeleniumJupiterFields() throws Exception {
+        Optional<Object> otherInstance = Optional
+                .of(new ClassWithOtherAnnotations());
+        assertThat(annotationsReader.seekFieldAnnotatedWith(otherInstance,
+                Deprecated.class)).isEmpty();
+
+        CapabilitiesA optionsA = annotationsReader.getFromAnnotatedField(
+                otherInstance, Options.class, CapabilitiesA.class);
+        assertThat(optionsA).isNotNull();
+        assertThat(optionsA.getId()).isEqualTo("other");
+    }
+
+    @Test
+    void testGetsDockerBrowsersOfClass() {
+        List<DockerBrowser> dockerBrowsers = annotationsReader
+                .getDockerBrowsers(ChildWithDockerBrowsers.class);
+        assertThat(dockerBrowsers).extracting(DockerBrowser::type)
+                .containsExactlyInAnyOrder(CHROME, FIREFOX, EDGE);
+    }
+
     private static class ClassWithOptions {
 
         @Options
@@ -81,6 +122,44 @@ class AnnotationsReaderTest {
         CapabilitiesA unreachable = new CapabilitiesA("unreachable");
     }
 
+    private static class ChildWithOptions extends ClassWithOptions {
+
+        @Options
+        CapabilitiesB nullCapabilitiesB = null;
+
+        @Options
+        CapabilitiesA childCapabilitiesA = new CapabilitiesA("child");
+    }
+
+    private static class ClassWithOtherAnnotations {
+
+        @Deprecated
+        CapabilitiesB deprecated = new CapabilitiesB("deprecated");
+
+        @Options
+        CapabilitiesA capabilitiesA = new CapabilitiesA("other");
+    }
+
+    static class ClassWithDockerBrowsers {
+
+        ClassWithDockerBrowsers(@DockerBrowser(type = CHROME) WebDriver driver) {
+        }
+
+        void test(@DockerBrowser(type = FIREFOX) WebDriver driver,
+                WebDriver localDriver) {
+        }
+    }
+
+    static class ChildWithDockerBrowsers extends ClassWithDockerBrowsers {
+
+        ChildWithDockerBrowsers() {
+            super(null);
+        }
+
+        void test(@DockerBrowser(type = EDGE, version = "beta") WebDriver driver) {
+        }
+    }
+
     private static class CapabilitiesA extends AbstractCapabilities {
 
         private static final long serialVersionUID = 5630780672421844735L;
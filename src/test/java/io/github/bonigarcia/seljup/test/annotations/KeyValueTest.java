@@ -0,0 +1,71 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup.test.annotations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.bonigarcia.seljup.KeyValue;
+
+class KeyValueTest {
+
+    @Test
+    void testTypedValues() {
+        List<KeyValue> keyValues = KeyValue.parse("bool=true", "int=42",
+                "long=4294967296", "double=0.5", "json={\"a\":\"b\"}",
+                "string=value=1", "invalid");
+
+        assertThat(keyValues).hasSize(6);
+        assertThat(keyValues.get(0).getValue()).isEqualTo(true);
+        assertThat(keyValues.get(1).getValue()).isEqualTo(42);
+        assertThat(keyValues.get(2).getValue()).isEqualTo(4294967296L);
+        assertThat(keyValues.get(3).getValue()).isEqualTo(0.5);
+        assertThat(keyValues.get(4).getValue()).isInstanceOf(Map.class);
+        assertThat(keyValues.get(5).getKey()).isEqualTo("string");
+        assertThat(keyValues.get(5).getValue()).isEqualTo("value=1");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testJsonValues() {
+        Map<String, Object> json = (Map<String, Object>) KeyValue
+                .parse("json={\"int\":1,\"double\":0.5,\"list\":[2]}")
+                .get().getValue();
+
+        assertThat(json.get("int")).isEqualTo(1L);
+        assertThat(json.get("double")).isEqualTo(0.5);
+        assertThat(json.get("list")).isEqualTo(List.of(2L));
+
+        // Cached values are shared, and so they cannot be modified
+        assertThrows(UnsupportedOperationException.class,
+                () -> json.put("key", "value"));
+        assertThrows(UnsupportedOperationException.class,
+                () -> ((List<Object>) json.get("list")).add(3L));
+    }
+
+    @Test
+    void testParsedOnce() {
+        String[] specs = { "key1=value1", "key2=2" };
+        assertThat(KeyValue.parse(specs)).isSameAs(KeyValue.parse(specs));
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup.test.devtools;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.v147.page.Page;
+import org.openqa.selenium.devtools.v147.page.Page.GetLayoutMetricsResponse;
+
+import io.github.bonigarcia.seljup.SeleniumJupiter;
+
+@ExtendWith(SeleniumJupiter.class)
+@Execution(ExecutionMode.CONCURRENT)
+class ConcurrentDevToolsTest {
+
+    static final String SITE_URL = "https://bonigarcia.dev/selenium-webdriver-java/";
+
+    @Test
+    void testShortDevToolsSession(ChromeDriver driver, DevTools devTools)
+            throws InterruptedException {
+        useDevTools(driver, devTools, Duration.ofSeconds(1));
+    }
+
+    @Test
+    void testLongDevToolsSession(ChromeDriver driver, DevTools devTools)
+            throws InterruptedException {
+        // When executed in parallel, the other test finishes in the meantime
+        useDevTools(driver, devTools, Duration.ofSeconds(5));
+    }
+
+    void useDevTools(ChromeDriver driver, DevTools devTools,
+            Duration duration) throws InterruptedException {
+        driver.get(SITE_URL);
+        long end = System.currentTimeMillis() + duration.toMillis();
+        while (System.currentTimeMillis() < end) {
+            GetLayoutMetricsResponse metrics = devTools
+                    .send(Page.getLayoutMetrics());
+            assertThat(metrics.getContentSize().getWidth()).isPositive();
+            Thread.sleep(200);
+        }
+        assertThat(driver.getTitle()).contains("Selenium WebDriver");
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup.test.devtools;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.openqa.selenium.chrome.ChromeDriver;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonParser;
+
+import io.github.bonigarcia.seljup.SeleniumJupiter;
+import io.github.bonigarcia.seljup.config.Config;
+
+class TracingTest {
+
+    static final String TRACES_FOLDER = "./target/traces";
+
+    @RegisterExtension
+    static SeleniumJupiter seleniumJupiter = new SeleniumJupiter();
+
+    @BeforeAll
+    static void setup() {
+        Config config = seleniumJupiter.getConfig();
+        config.enableTracing();
+        config.setOutputFolder(TRACES_FOLDER);
+    }
+
+    @AfterAll
+    static void teardown() throws Exception {
+        // The trace is written when the test finishes
+        File[] traceFiles = new File(TRACES_FOLDER)
+                .listFiles(file -> file.getName().endsWith(".json.gz"));
+        assertThat(traceFiles).hasSize(1);
+
+        try (Reader reader = new InputStreamReader(new GZIPInputStream(
+                Files.newInputStream(traceFiles[0].toPath())), UTF_8)) {
+            JsonArray traceEvents = JsonParser.parseReader(reader)
+                    .getAsJsonArray();
+            assertThat(traceEvents.size()).isPositive();
+        }
+        traceFiles[0].delete();
+    }
+
+    @Test
+    void testTracing(ChromeDriver driver) {
+        driver.get("https://bonigarcia.dev/selenium-webdriver-java/");
+        assertThat(driver.getTitle()).contains("Selenium WebDriver");
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup.test.docker;
+
+import static io.github.bonigarcia.seljup.BrowserType.CHROME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URL;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import io.github.bonigarcia.seljup.BrowserBroker;
+import io.github.bonigarcia.seljup.DockerBrowser;
+import io.github.bonigarcia.seljup.SeleniumJupiter;
+import io.github.bonigarcia.seljup.config.Config;
+
+@TestMethodOrder(OrderAnnotation.class)
+class DockerBrokerTest {
+
+    static final String SITE_URL = "https://bonigarcia.dev/selenium-webdriver-java/";
+
+    @RegisterExtension
+    static SeleniumJupiter seleniumJupiter = new SeleniumJupiter();
+
+    static BrowserBroker browserBroker;
+    static String firstSessionId;
+    static URL firstEndpointUrl;
+
+    @BeforeAll
+    static void setup() throws Exception {
+        // Without warm endpoints, the second test gets the endpoint started
+        // (and released) by the first one
+        Config brokerConfig = new Config();
+        brokerConfig.setBrokerPort(0);
+        brokerConfig.setBrokerBrowsers("");
+        brokerConfig.setBrokerPoolSize(0);
+        browserBroker = new BrowserBroker(brokerConfig);
+        browserBroker.start();
+
+        seleniumJupiter.getConfig().enableBroker();
+        seleniumJupiter.getConfig().setBrokerPort(browserBroker.getPort());
+    }
+
+    @AfterAll
+    static void teardown() {
+        browserBroker.close();
+    }
+
+    @Test
+    @Order(1)
+    void testFirstLease(
+            @DockerBrowser(type = CHROME) RemoteWebDriver driver) {
+        driver.get(SITE_URL);
+        assertThat(driver.getTitle()).contains("Selenium WebDriver");
+        firstSessionId = driver.getSessionId().toString();
+        firstEndpointUrl = getEndpointUrl(driver);
+    }
+
+    @Test
+    @Order(2)
+    void testSecondLease(
+            @DockerBrowser(type = CHROME) RemoteWebDriver driver) {
+        assertThat(driver.getSessionId().toString())
+                .isNotEqualTo(firstSessionId);
+        assertThat(getEndpointUrl(driver)).isEqualTo(firstEndpointUrl);
+        driver.get(SITE_URL);
+        assertThat(driver.getTitle()).contains("Selenium WebDriver");
+    }
+
+    static URL getEndpointUrl(RemoteWebDriver driver) {
+        return ((HttpCommandExecutor) driver.getCommandExecutor())
+                .getAddressOfRemoteServer();
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup.test.docker;
+
+import static io.github.bonigarcia.seljup.BrowserType.CHROME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import java.net.URL;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import io.github.bonigarcia.seljup.DockerBrowser;
+import io.github.bonigarcia.seljup.SeleniumJupiter;
+
+@TestMethodOrder(OrderAnnotation.class)
+class DockerChromeReuseTest {
+
+    static final String SITE_URL = "https://bonigarcia.dev/selenium-webdriver-java/";
+
+    @RegisterExtension
+    static SeleniumJupiter seleniumJupiter = new SeleniumJupiter();
+
+    static String firstSessionId;
+    static URL firstContainerUrl;
+
+    @BeforeAll
+    static void setup() {
+        seleniumJupiter.getConfig().enableDockerReuse();
+    }
+
+    @Test
+    @Order(1)
+    void testFirstSession(
+            @DockerBrowser(type = CHROME) RemoteWebDriver driver) {
+        driver.get(SITE_URL);
+        driver.manage().addCookie(new Cookie("seljup", "reuse"));
+        firstSessionId = driver.getSessionId().toString();
+        firstContainerUrl = getContainerUrl(driver);
+    }
+
+    @Test
+    @Order(2)
+    void testIsolatedSession(
+            @DockerBrowser(type = CHROME) RemoteWebDriver driver) {
+        assertThat(driver.getSessionId()).isNotNull();
+        assertThat(driver.getSessionId().toString())
+                .isNotEqualTo(firstSessionId);
+        assertThat(getContainerUrl(driver)).isEqualTo(firstContainerUrl);
+        driver.get(SITE_URL);
+        assertThat(driver.manage().getCookieNamed("seljup")).isNull();
+    }
+
+    static URL getContainerUrl(RemoteWebDriver driver) {
+        return ((HttpCommandExecutor) driver.getCommandExecutor())
+                .getAddressOfRemoteServer();
+    }
+
+}
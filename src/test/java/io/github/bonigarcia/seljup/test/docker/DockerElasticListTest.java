@@ -0,0 +1,57 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup.test.docker;
+
+import static io.github.bonigarcia.seljup.BrowserType.CHROME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import io.github.bonigarcia.seljup.DockerBrowser;
+import io.github.bonigarcia.seljup.SeleniumJupiter;
+
+class DockerElasticListTest {
+
+    static final int NUM_BROWSERS = 3;
+
+    @RegisterExtension
+    static SeleniumJupiter seleniumJupiter = new SeleniumJupiter();
+
+    @BeforeAll
+    static void setup() {
+        seleniumJupiter.getConfig().enableDockerElastic();
+        seleniumJupiter.getConfig().setDockerElasticReady(1);
+    }
+
+    @Test
+    void testElasticList(
+            @DockerBrowser(type = CHROME, size = NUM_BROWSERS) List<RemoteWebDriver> driverList) {
+        // The first browser is ready, the rest are awaited on access
+        assertThat(driverList.get(0).getSessionId()).isNotNull();
+        assertThat(driverList).hasSize(NUM_BROWSERS);
+        driverList.forEach(driver -> {
+            driver.get("https://bonigarcia.dev/selenium-webdriver-java/");
+            assertThat(driver.getTitle()).contains("Selenium WebDriver");
+        });
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup.test.local;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+
+import io.github.bonigarcia.seljup.SeleniumJupiter;
+
+@TestMethodOrder(OrderAnnotation.class)
+class HtmlUnitPoolTest {
+
+    @RegisterExtension
+    static SeleniumJupiter seleniumJupiter = new SeleniumJupiter();
+
+    static HtmlUnitDriver firstDriver;
+
+    @BeforeAll
+    static void setup() {
+        seleniumJupiter.getConfig().enableHtmlUnitPool();
+    }
+
+    @Test
+    @Order(1)
+    void testFirstDriver(HtmlUnitDriver driver) {
+        driver.get("data:text/html,<title>HtmlUnit pool</title>");
+        assertThat(driver.getTitle()).isEqualTo("HtmlUnit pool");
+        firstDriver = driver;
+    }
+
+    @Test
+    @Order(2)
+    void testReusedDriver(HtmlUnitDriver driver) {
+        assertThat(driver).isSameAs(firstDriver);
+        assertThat(driver.getCurrentUrl()).isEqualTo("about:blank");
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup.test.local;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.chrome.ChromeDriver;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import io.github.bonigarcia.seljup.SeleniumJupiter;
+
+class ProcessAccountingTest {
+
+    static final String LOG_FILE_NAME = "process-accounting.jsonl";
+    static final int LOG_TIMEOUT_SEC = 10;
+
+    @RegisterExtension
+    static SeleniumJupiter seleniumJupiter = new SeleniumJupiter();
+
+    @TempDir
+    static Path tempDir;
+
+    @BeforeAll
+    static void setup() {
+        seleniumJupiter.getConfig().enableProcessAccounting();
+        seleniumJupiter.getConfig().enableResultLog();
+        seleniumJupiter.getConfig().setOutputFolder(tempDir.toString());
+        seleniumJupiter.getConfig().setResultLogFileName(LOG_FILE_NAME);
+    }
+
+    @AfterAll
+    static void teardown() throws Exception {
+        // The resources are reported when the browser is quit (i.e., after
+        // the test), and the result log is written in the background
+        JsonObject samples = awaitEvent("process-resources")
+                .getAsJsonObject("samples");
+        assertThat(samples.keySet()).containsExactly("create", "test",
+                "quit");
+        for (String phase : samples.keySet()) {
+            JsonObject sample = samples.getAsJsonObject(phase);
+            assertThat(sample.get("cpuMs").getAsLong()).isPositive();
+            assertThat(sample.get("rssMb").getAsLong()).isPositive();
+        }
+    }
+
+    @Test
+    void testProcessAccounting(ChromeDriver driver) {
+        driver.get("https://bonigarcia.dev/selenium-webdriver-java/");
+        assertThat(driver.getTitle()).contains("Selenium WebDriver");
+    }
+
+    static JsonObject awaitEvent(String type) throws Exception {
+        Path logFile = tempDir.resolve(LOG_FILE_NAME);
+        long deadline = System.currentTimeMillis()
+                + TimeUnit.SECONDS.toMillis(LOG_TIMEOUT_SEC);
+        while (System.currentTimeMillis() < deadline) {
+            if (Files.exists(logFile)) {
+                Optional<JsonObject> event = Files
+                        .readAllLines(logFile, UTF_8).stream()
+                        .map(ProcessAccountingTest::parseEvent)
+                        .flatMap(Optional::stream)
+                        .filter(e -> e.get("event").getAsString()
+                                .equals(type))
+                        .findFirst();
+                if (event.isPresent()) {
+                    return event.get();
+                }
+            }
+            Thread.sleep(100);
+        }
+        return fail("Event " + type + " not found in " + logFile);
+    }
+
+    static Optional<JsonObject> parseEvent(String line) {
+        try {
+            return Optional.of(JsonParser.parseString(line).getAsJsonObject());
+        } catch (Exception e) {
+            // Line not completely written yet
+            return Optional.empty();
+        }
+    }
+
+}
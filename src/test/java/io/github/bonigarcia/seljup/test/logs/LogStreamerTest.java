@@ -0,0 +1,115 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup.test.logs;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.WebDriver;
+
+import io.github.bonigarcia.seljup.LogStreamer;
+import io.github.bonigarcia.wdm.managers.ChromeDriverManager;
+import io.github.bonigarcia.wdm.managers.FirefoxDriverManager;
+
+class LogStreamerTest {
+
+    static final long NO_POLLING_MS = 60_000;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testLastEntriesAreBounded() throws Exception {
+        // Each read returns only the new entries
+        List<Map<String, Object>> logs = new ArrayList<>();
+        ChromeDriverManager wdm = new ChromeDriverManager() {
+            @Override
+            public List<Map<String, Object>> getLogs(WebDriver driver) {
+                List<Map<String, Object>> newLogs = new ArrayList<>(logs);
+                logs.clear();
+                return newLogs;
+            }
+        };
+        File logFile = tempDir.resolve("console.log").toFile();
+        LogStreamer logStreamer = new LogStreamer(wdm, null, logFile, 3);
+        logStreamer.start(NO_POLLING_MS);
+
+        addEntries(logs, 0, 5);
+        logStreamer.poll();
+        addEntries(logs, 5, 6);
+        logStreamer.close();
+
+        assertThat(Files.readAllLines(logFile.toPath(), UTF_8)).hasSize(6);
+        assertThat(logStreamer.getDroppedEntries()).isEqualTo(3);
+        String lastEntries = logStreamer.getLastEntries();
+        assertThat(lastEntries)
+                .startsWith("(3 previous entries not shown, see console.log)")
+                .contains("message 3", "message 4", "message 5")
+                .doesNotContain("message 2");
+    }
+
+    @Test
+    void testCumulativeLogs() throws Exception {
+        // In Firefox, each read returns all the entries so far
+        List<Map<String, Object>> logs = new ArrayList<>();
+        FirefoxDriverManager wdm = new FirefoxDriverManager() {
+            @Override
+            public List<Map<String, Object>> getLogs(WebDriver driver) {
+                return new ArrayList<>(logs);
+            }
+        };
+        File logFile = tempDir.resolve("console.log").toFile();
+        LogStreamer logStreamer = new LogStreamer(wdm, null, logFile, 10);
+        logStreamer.start(NO_POLLING_MS);
+
+        addEntries(logs, 0, 2);
+        logStreamer.poll();
+        addEntries(logs, 2, 3);
+        logStreamer.close();
+
+        assertThat(Files.readAllLines(logFile.toPath(), UTF_8))
+                .containsExactly(formatEntry(0), formatEntry(1),
+                        formatEntry(2));
+        assertThat(logStreamer.getDroppedEntries()).isEqualTo(0);
+    }
+
+    private void addEntries(List<Map<String, Object>> logs, int from,
+            int to) {
+        for (int i = from; i < to; i++) {
+            logs.add(getEntry(i));
+        }
+    }
+
+    private Map<String, Object> getEntry(int i) {
+        return Map.of("datetime", "2026-01-01T00:00:0" + i, "type", "log",
+                "message", "message " + i);
+    }
+
+    private String formatEntry(int i) {
+        return LogStreamer.formatLogEntry(getEntry(i));
+    }
+
+}
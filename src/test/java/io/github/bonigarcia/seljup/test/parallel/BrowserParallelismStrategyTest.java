@@ -0,0 +1,83 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup.test.parallel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+
+import io.github.bonigarcia.seljup.BrowserParallelismStrategy;
+
+class BrowserParallelismStrategyTest {
+
+    BrowserParallelismStrategy strategy = new BrowserParallelismStrategy();
+
+    @Test
+    void testParallelismFromMemory() {
+        ParallelExecutionConfiguration configuration = strategy
+                .createConfiguration(parameters(Map.of(
+                        "sel.jup.parallelism.browser.memory.mb", "1",
+                        "sel.jup.parallelism.max", "3")));
+        assertThat(configuration.getParallelism()).isEqualTo(3);
+        assertThat(configuration.getMaxPoolSize()).isEqualTo(3);
+    }
+
+    @Test
+    void testMinimumParallelism() {
+        ParallelExecutionConfiguration configuration = strategy
+                .createConfiguration(parameters(Map.of(
+                        "sel.jup.parallelism.browser.memory.mb",
+                        String.valueOf(Integer.MAX_VALUE))));
+        assertThat(configuration.getParallelism()).isEqualTo(1);
+    }
+
+    @Test
+    void testGridNotAvailable() {
+        ParallelExecutionConfiguration configuration = strategy
+                .createConfiguration(parameters(Map.of(
+                        "sel.jup.selenium.server.url", "http://localhost:1/",
+                        "sel.jup.parallelism.browser.memory.mb", "1",
+                        "sel.jup.parallelism.max", "2")));
+        assertThat(configuration.getParallelism()).isEqualTo(2);
+    }
+
+    ConfigurationParameters parameters(Map<String, String> values) {
+        return new ConfigurationParameters() {
+            @Override
+            public Optional<String> get(String key) {
+                return Optional.ofNullable(values.get(key));
+            }
+
+            @Override
+            public Optional<Boolean> getBoolean(String key) {
+                return get(key).map(Boolean::valueOf);
+            }
+
+            @Override
+            public Set<String> keySet() {
+                return values.keySet();
+            }
+        };
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup.test.parallel;
+
+import static io.github.bonigarcia.seljup.BrowserType.CHROME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.parallel.ResourceAccessMode.READ;
+import static org.junit.jupiter.api.parallel.ResourceAccessMode.READ_WRITE;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLocksProvider.Lock;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+
+import io.github.bonigarcia.seljup.DockerBrowser;
+import io.github.bonigarcia.seljup.DriverUrl;
+import io.github.bonigarcia.seljup.SeleniumJupiter;
+
+class ResourceLocksProviderTest {
+
+    @Test
+    void testSharedLocks() {
+        SeleniumJupiter seleniumJupiter = new SeleniumJupiter();
+        assertThat(getLocks(seleniumJupiter, "local"))
+                .extracting(Lock::getAccessMode).containsExactly(READ);
+        assertThat(getLocks(seleniumJupiter, "remote"))
+                .extracting(Lock::getKey).allMatch(
+                        key -> key.endsWith("remote:http://localhost:4444/"));
+        assertThat(getLocks(seleniumJupiter, "dockerList"))
+                .extracting(Lock::getAccessMode).containsExactly(READ_WRITE);
+    }
+
+    @Test
+    void testLocksWithCapacity() {
+        SeleniumJupiter seleniumJupiter = new SeleniumJupiter();
+        seleniumJupiter.getConfig().setResourceLocksCapacity(3);
+        assertThat(getLocks(seleniumJupiter, "docker")).hasSize(1);
+        assertThat(getLocks(seleniumJupiter, "dockerList")).hasSize(3)
+                .extracting(Lock::getAccessMode).containsOnly(READ_WRITE);
+    }
+
+    @Test
+    void testSlotsAreAssignedRoundRobin() {
+        SeleniumJupiter seleniumJupiter = new SeleniumJupiter();
+        seleniumJupiter.getConfig().setResourceLocksCapacity(3);
+        Set<String> keys = Stream
+                .of("dockerSlot1", "dockerSlot2", "dockerSlot3")
+                .flatMap(method -> getLocks(seleniumJupiter, method).stream())
+                .map(Lock::getKey).collect(Collectors.toSet());
+        assertThat(keys).hasSize(3);
+        assertThat(getLocks(seleniumJupiter, "dockerSlot1"))
+                .isEqualTo(getLocks(seleniumJupiter, "dockerSlot1"));
+    }
+
+    Set<Lock> getLocks(SeleniumJupiter seleniumJupiter, String methodName) {
+        Method method = Arrays.stream(BrowserTests.class.getDeclaredMethods())
+                .filter(m -> m.getName().equals(methodName)).findFirst()
+                .orElseThrow();
+        return seleniumJupiter.provideForMethod(Collections.emptyList(),
+                BrowserTests.class, method);
+    }
+
+    static class BrowserTests {
+
+        void local(ChromeDriver driver) {
+        }
+
+        void remote(@DriverUrl("http://localhost:4444/") WebDriver driver) {
+        }
+
+        void docker(@DockerBrowser(type = CHROME) WebDriver driver) {
+        }
+
+        void dockerSlot1(@DockerBrowser(type = CHROME) WebDriver driver) {
+        }
+
+        void dockerSlot2(@DockerBrowser(type = CHROME) WebDriver driver) {
+        }
+
+        void dockerSlot3(@DockerBrowser(type = CHROME) WebDriver driver) {
+        }
+
+        void dockerList(
+                @DockerBrowser(type = CHROME, size = 2) List<WebDriver> drivers) {
+        }
+    }
+
+}
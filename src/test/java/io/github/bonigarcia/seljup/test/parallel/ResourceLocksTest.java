@@ -0,0 +1,52 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup.test.parallel;
+
+//tag::snippet-in-doc[]
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.firefox.FirefoxDriver;
+
+import io.github.bonigarcia.seljup.SeleniumJupiter;
+
+@ExtendWith(SeleniumJupiter.class)
+@ResourceLock(providers = SeleniumJupiter.class)
+@Execution(ExecutionMode.CONCURRENT)
+class ResourceLocksTest {
+
+    static final String SITE_URL = "https://bonigarcia.dev/selenium-webdriver-java/";
+
+    @Test
+    void testChrome(ChromeDriver driver) {
+        driver.get(SITE_URL);
+        assertThat(driver.getTitle()).contains("Selenium WebDriver");
+    }
+
+    @Test
+    void testFirefox(FirefoxDriver driver) {
+        driver.get(SITE_URL);
+        assertThat(driver.getTitle()).contains("Selenium WebDriver");
+    }
+
+}
+//end::snippet-in-doc[]
@@ -0,0 +1,114 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup.test.parallel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.github.bonigarcia.seljup.SessionAdmission;
+import io.github.bonigarcia.seljup.config.Config;
+
+class SessionAdmissionTest {
+
+    static final long AVAILABLE_MB = 1000;
+    static final long BROWSER_MB = 300;
+
+    Config config;
+    SessionAdmission sessionAdmission;
+
+    @BeforeEach
+    void setup() {
+        config = new Config();
+        config.setAdmissionMinAvailableMb(500);
+        config.setAdmissionTimeoutSec(10);
+
+        // Fixed memory figures, so the admission does not depend on the host
+        sessionAdmission = new SessionAdmission(config) {
+            @Override
+            protected long getAvailableMb() {
+                return AVAILABLE_MB;
+            }
+
+            @Override
+            protected long getBrowserMemoryMb() {
+                return BROWSER_MB;
+            }
+        };
+    }
+
+    @Test
+    void testAdmissionDisabled() {
+        config.setAdmissionMinAvailableMb(0);
+        long start = System.currentTimeMillis();
+        try (SessionAdmission.Reservation first = sessionAdmission
+                .admit("test1", 10);
+                SessionAdmission.Reservation second = sessionAdmission
+                        .admit("test2", 10)) {
+            assertThat(System.currentTimeMillis() - start).isLessThan(1000);
+        }
+    }
+
+    @Test
+    void testSessionWaitsForRelease() throws Exception {
+        SessionAdmission.Reservation first = sessionAdmission.admit("test1",
+                1);
+
+        // 1000 - 300 (reserved) - 300 (required) < 500
+        CompletableFuture<SessionAdmission.Reservation> second = CompletableFuture
+                .supplyAsync(() -> sessionAdmission.admit("test2", 1));
+        Thread.sleep(1000);
+        assertThat(second).isNotDone();
+
+        first.close();
+        second.get(5, TimeUnit.SECONDS).close();
+    }
+
+    @Test
+    void testSessionAdmittedAfterTimeout() {
+        config.setAdmissionTimeoutSec(1);
+        try (SessionAdmission.Reservation first = sessionAdmission
+                .admit("test1", 1)) {
+            long start = System.currentTimeMillis();
+            try (SessionAdmission.Reservation second = sessionAdmission
+                    .admit("test2", 1)) {
+                assertThat(System.currentTimeMillis() - start)
+                        .isGreaterThanOrEqualTo(1000);
+            }
+        }
+    }
+
+    @Test
+    void testReservationIsReleasedOnce() {
+        SessionAdmission.Reservation first = sessionAdmission.admit("test1",
+                1);
+        first.close();
+        first.close();
+
+        // A double release would make room for two more sessions
+        long start = System.currentTimeMillis();
+        try (SessionAdmission.Reservation second = sessionAdmission
+                .admit("test2", 1)) {
+            assertThat(System.currentTimeMillis() - start).isLessThan(1000);
+        }
+    }
+
+}
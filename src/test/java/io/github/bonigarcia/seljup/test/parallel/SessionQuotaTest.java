@@ -0,0 +1,80 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup.test.parallel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.bonigarcia.seljup.SessionQuota;
+import io.github.bonigarcia.seljup.config.Config;
+
+class SessionQuotaTest {
+
+    @TempDir
+    Path tempDir;
+
+    Config config;
+    SessionQuota sessionQuota;
+
+    @BeforeEach
+    void setup() throws Exception {
+        config = new Config();
+        config.setQuotaFile(tempDir.resolve("quota.bin").toString());
+        config.setQuotaMaxSessions(2);
+        config.setQuotaTimeoutSec(0);
+        sessionQuota = new SessionQuota(config);
+    }
+
+    @AfterEach
+    void teardown() {
+        sessionQuota.close();
+    }
+
+    @Test
+    void testQuotaIsShared() throws Exception {
+        try (SessionQuota otherFork = new SessionQuota(config)) {
+            SessionQuota.Lease lease = sessionQuota.acquire("test1", 2);
+            assertThat(lease.isAcquired()).isTrue();
+            assertThat(otherFork.acquire("test2", 1).isAcquired()).isFalse();
+
+            lease.close();
+            assertThat(otherFork.acquire("test2", 1).isAcquired()).isTrue();
+        }
+    }
+
+    @Test
+    void testSlotsOfDeadProcessesAreReclaimed() throws Exception {
+        Process process = new ProcessBuilder("java", "-version").start();
+        process.waitFor();
+
+        // Slot held by a process no longer alive (e.g., a crashed fork)
+        try (RandomAccessFile file = new RandomAccessFile(
+                sessionQuota.getQuotaFile().toFile(), "rw")) {
+            file.writeLong(process.pid());
+            file.writeLong(0);
+        }
+        assertThat(sessionQuota.acquire("test", 2).isAcquired()).isTrue();
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup.test.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.aventstack.extentreports.ExtentTest;
+
+import io.github.bonigarcia.seljup.ReportManager;
+import io.github.bonigarcia.seljup.config.Config;
+
+class ReportManagerTest {
+
+    @TempDir
+    Path tempDir;
+
+    Config config;
+
+    @BeforeEach
+    void setup() {
+        config = new Config();
+        config.setOutputFolder(tempDir.toString());
+        config.setReportFileName("report.html");
+        config.setReportFlushEvery(2);
+        config.setReportMaxTests(0);
+    }
+
+    @Test
+    void testFlushEvery() {
+        ReportManager reportManager = new ReportManager(config);
+        File reportFile = reportManager.getCurrentReportFile();
+
+        reportManager.finishTest(reportManager.createTest("test1"));
+        assertThat(reportManager.getFlushCount()).isEqualTo(0);
+        assertThat(reportFile).doesNotExist();
+
+        reportManager.finishTest(reportManager.createTest("test2"));
+        assertThat(reportManager.getFlushCount()).isEqualTo(1);
+        assertThat(reportFile).exists();
+    }
+
+    @Test
+    void testFlushIntervalGrows() {
+        ReportManager reportManager = new ReportManager(config);
+        int tests = 200;
+        for (int i = 0; i < tests; i++) {
+            reportManager.finishTest(reportManager.createTest("test" + i));
+        }
+
+        // A flush every 2 tests would render the report 100 times
+        assertThat(reportManager.getFlushCount()).isLessThan(tests / 10);
+    }
+
+    @Test
+    void testRecordingInOutputFolder() throws Exception {
+        ReportManager reportManager = new ReportManager(config);
+        Path recording = Files.write(tempDir.resolve("recording.mp4"),
+                new byte[] { 0 });
+
+        Path linked = reportManager.addRecording(
+                reportManager.createTest("test"), recording,
+                tempDir.toString());
+        assertThat(linked).isEqualTo(recording.toAbsolutePath().normalize());
+    }
+
+    @Test
+    void testRecordingOutsideOutputFolder(@TempDir Path downloads)
+            throws Exception {
+        ReportManager reportManager = new ReportManager(config);
+        Path recording = Files.write(downloads.resolve("recording.mp4"),
+                new byte[] { 0 });
+
+        // Copied into the output folder, so the report can link to it
+        Path linked = reportManager.addRecording(
+                reportManager.createTest("test"), recording,
+                tempDir.toString());
+        assertThat(linked).isEqualTo(tempDir.toAbsolutePath().normalize()
+                .resolve("recording.mp4"));
+        assertThat(linked).exists();
+
+        reportManager.close();
+        String report = Files.readString(
+                reportManager.getCurrentReportFile().toPath());
+        assertThat(report).contains("recording.mp4")
+                .doesNotContain(downloads.toString());
+    }
+
+    @Test
+    void testRollover() {
+        config.setReportMaxTests(2);
+        ReportManager reportManager = new ReportManager(config);
+        File firstFile = reportManager.getCurrentReportFile();
+
+        ExtentTest test1 = reportManager.createTest("test1");
+        ExtentTest test2 = reportManager.createTest("test2");
+        reportManager.finishTest(test1);
+        ExtentTest test3 = reportManager.createTest("test3");
+
+        File secondFile = reportManager.getCurrentReportFile();
+        assertThat(secondFile.getName()).isEqualTo("report-2.html");
+
+        // The previous file is written for good when its last test finishes
+        long flushes = reportManager.getFlushCount();
+        reportManager.finishTest(test2);
+        assertThat(reportManager.getFlushCount()).isEqualTo(flushes + 1);
+        assertThat(firstFile).exists();
+
+        reportManager.finishTest(test3);
+        reportManager.close();
+        assertThat(secondFile).exists();
+    }
+
+}
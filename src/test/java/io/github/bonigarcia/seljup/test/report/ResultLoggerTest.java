@@ -0,0 +1,122 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup.test.report;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import io.github.bonigarcia.seljup.ResultLogger;
+import io.github.bonigarcia.seljup.config.Config;
+
+class ResultLoggerTest {
+
+    @TempDir
+    Path tempDir;
+
+    Config config;
+
+    @BeforeEach
+    void setup() {
+        config = new Config();
+        config.setOutputFolder(tempDir.toString());
+        config.setResultLogFileName("result-log.jsonl");
+    }
+
+    @Test
+    void testPerformanceSummary() throws Exception {
+        ResultLogger resultLogger = new ResultLogger(config);
+        resultLogger.performance("test1", null, Map.of("LayoutCount", 10.0));
+        resultLogger.performance("test2", null, Map.of("LayoutCount", 20.0));
+        resultLogger.close();
+
+        List<JsonObject> events = readEvents(resultLogger.getLogFile());
+        JsonObject summary = events.get(events.size() - 1);
+        assertThat(summary.get("event").getAsString()).isEqualTo("summary");
+        JsonObject layoutCount = summary.getAsJsonObject("performance")
+                .getAsJsonObject("LayoutCount");
+        assertThat(layoutCount.get("count").getAsLong()).isEqualTo(2);
+        assertThat(layoutCount.get("avg").getAsDouble()).isEqualTo(15.0);
+        assertThat(layoutCount.get("max").getAsDouble()).isEqualTo(20.0);
+    }
+
+    @Test
+    void testEventsWrittenInOrder() throws Exception {
+        ResultLogger resultLogger = new ResultLogger(config);
+        resultLogger.testStarted("test1", "testName");
+        resultLogger.testFailed("test1", new IllegalStateException("error"));
+        resultLogger.testFinished("test1", "FAILED");
+        resultLogger.close();
+
+        List<JsonObject> events = readEvents(resultLogger.getLogFile());
+        assertThat(events).hasSize(3);
+        assertThat(events.get(0).get("event").getAsString())
+                .isEqualTo("start");
+        assertThat(events.get(1).get("event").getAsString())
+                .isEqualTo("failure");
+        assertThat(events.get(1).get("exception").getAsString())
+                .isEqualTo(IllegalStateException.class.getName());
+        assertThat(events.get(2).get("event").getAsString())
+                .isEqualTo("finish");
+        assertThat(events.get(2).has("durationMs")).isTrue();
+    }
+
+    @Test
+    void testEventsVisibleBeforeClose() throws Exception {
+        ResultLogger resultLogger = new ResultLogger(config);
+        resultLogger.testStarted("test1", "testName");
+
+        // The writer flushes once the queue is drained
+        Path logFile = resultLogger.getLogFile();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline
+                && (!Files.exists(logFile) || Files.size(logFile) == 0)) {
+            Thread.sleep(100);
+        }
+        assertThat(readEvents(logFile)).hasSize(1);
+        resultLogger.close();
+    }
+
+    @Test
+    void testEventsAfterCloseIgnored() throws Exception {
+        ResultLogger resultLogger = new ResultLogger(config);
+        resultLogger.testStarted("test1", "testName");
+        resultLogger.close();
+        resultLogger.testFinished("test1", "SUCCESSFUL");
+        resultLogger.close();
+
+        assertThat(readEvents(resultLogger.getLogFile())).hasSize(1);
+    }
+
+    private List<JsonObject> readEvents(Path logFile) throws Exception {
+        return Files.readAllLines(logFile, UTF_8).stream()
+                .map(line -> JsonParser.parseString(line).getAsJsonObject())
+                .toList();
+    }
+
+}
@@ -0,0 +1,200 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup.test.retention;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.bonigarcia.seljup.RetentionManager;
+import io.github.bonigarcia.seljup.config.Config;
+
+class RetentionManagerTest {
+
+    static final String INDEX_FILE_NAME = ".selenium-jupiter-index";
+    static final String RUNS_FOLDER_NAME = ".selenium-jupiter-runs";
+
+    @TempDir
+    Path tempDir;
+
+    Config config;
+    StringBuilder index;
+
+    @BeforeEach
+    void setup() {
+        config = new Config();
+        config.setOutputFolder(tempDir.toString());
+        index = new StringBuilder();
+    }
+
+    @Test
+    void testOldArtifactsArePruned() throws Exception {
+        long now = System.currentTimeMillis();
+        Path old = artifact("1000", now - TimeUnit.DAYS.toMillis(3), "P",
+                "old.png", 10);
+        Path oldFailed = artifact("1000", now - TimeUnit.DAYS.toMillis(3),
+                "F", "old-failed.png", 10);
+        Path recent = artifact("2000", now, "P", "recent.png", 10);
+        config.setRetentionMaxAgeDays(2);
+        prune();
+
+        assertThat(old).doesNotExist();
+        assertThat(oldFailed).doesNotExist();
+        assertThat(recent).exists();
+        assertThat(readIndex()).hasSize(1);
+    }
+
+    @Test
+    void testFailedArtifactsAreKeptAfterRuns() throws Exception {
+        long now = System.currentTimeMillis();
+        Path passed = artifact("1000", now, "P", "passed-1.png", 10);
+        Path failed = artifact("1000", now, "F", "failed-1.png", 10);
+        Path recentPassed = artifact("2000", now, "P", "passed-2.png", 10);
+        config.setRetentionFailedOnlyAfterRuns(1);
+        prune();
+
+        assertThat(passed).doesNotExist();
+        assertThat(failed).exists();
+        assertThat(recentPassed).exists();
+        assertThat(readIndex()).hasSize(2);
+    }
+
+    @Test
+    void testOldestArtifactsArePrunedBySize() throws Exception {
+        long now = System.currentTimeMillis();
+        int size = 600 * 1024;
+        Path oldest = artifact("1000", now - 2000, "F", "oldest.mp4", size);
+        Path older = artifact("2000", now - 1000, "P", "older.mp4", size);
+        Path newest = artifact("3000", now, "P", "newest.mp4", size);
+        config.setRetentionMaxSizeMb(1);
+        prune();
+
+        assertThat(oldest).doesNotExist();
+        assertThat(older).doesNotExist();
+        assertThat(newest).exists();
+        assertThat(readIndex()).hasSize(1);
+    }
+
+    @Test
+    void testConcurrentRegistration() throws Exception {
+        config.setRetentionMaxAgeDays(30);
+        int artifacts = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (RetentionManager fork1 = new RetentionManager(config);
+                RetentionManager fork2 = new RetentionManager(config)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < artifacts; i++) {
+                Path file = Files.write(tempDir.resolve(i + ".png"),
+                        new byte[10]);
+                RetentionManager retentionManager = i % 2 == 0 ? fork1
+                        : fork2;
+                boolean failed = i % 3 == 0;
+                futures.add(executor.submit(() -> retentionManager
+                        .registerTestArtifact(file.toFile(), failed)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(readIndex()).hasSize(artifacts);
+    }
+
+    @Test
+    void testSharedRunIsNotPruned() throws Exception {
+        long now = System.currentTimeMillis();
+        Path otherFork = artifact("build-1", now - TimeUnit.DAYS.toMillis(3),
+                "P", "other-fork.png", 10);
+        Path oldRun = artifact("build-0", now - TimeUnit.DAYS.toMillis(3),
+                "P", "old-run.png", 10);
+        config.setRetentionMaxAgeDays(2);
+        config.setRetentionRunId("build-1");
+        Files.writeString(tempDir.resolve(INDEX_FILE_NAME), index, UTF_8);
+        try (RetentionManager retentionManager = new RetentionManager(
+                config)) {
+            retentionManager.registerTestArtifact(Files
+                    .write(tempDir.resolve("this-fork.png"), new byte[10])
+                    .toFile(), false);
+        }
+
+        assertThat(otherFork).exists();
+        assertThat(oldRun).doesNotExist();
+        assertThat(readIndex()).hasSize(2)
+                .allMatch(line -> line.startsWith("build-1\t"));
+    }
+
+    @Test
+    void testLiveRunsAreNotPruned() throws Exception {
+        long now = System.currentTimeMillis();
+        int size = 600 * 1024;
+        Path runsFolder = Files
+                .createDirectories(tempDir.resolve(RUNS_FOLDER_NAME));
+        Path liveRun = runsFolder.resolve((now - 1000) + "-live.lock");
+        Path finishedRun = runsFolder.resolve((now - 5000) + "-dead.lock");
+        Files.createFile(finishedRun);
+
+        Path older = artifact("1000", now - 2000, "P", "older.mp4", size);
+        Path live = artifact("2000", now - 500, "P", "live.mp4", size);
+        Path newest = artifact("3000", now, "P", "newest.mp4", size);
+        config.setRetentionMaxSizeMb(1);
+        try (FileChannel channel = FileChannel.open(liveRun, CREATE,
+                WRITE)) {
+            channel.lock();
+            prune();
+        }
+
+        assertThat(older).doesNotExist();
+        assertThat(live).exists();
+        assertThat(newest).exists();
+        assertThat(finishedRun).doesNotExist();
+    }
+
+    private Path artifact(String runId, long timestamp, String kind,
+            String name, int size) throws Exception {
+        Path file = Files.write(tempDir.resolve(name), new byte[size]);
+        index.append(String.join("\t", runId, String.valueOf(timestamp),
+                kind, file.toAbsolutePath().normalize().toString()))
+                .append("\n");
+        return file;
+    }
+
+    private void prune() throws Exception {
+        Files.writeString(tempDir.resolve(INDEX_FILE_NAME), index, UTF_8);
+        new RetentionManager(config).close();
+    }
+
+    private List<String> readIndex() throws Exception {
+        return Files.readAllLines(tempDir.resolve(INDEX_FILE_NAME), UTF_8);
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup.test.selenide;
+
+import static com.codeborne.selenide.Browsers.FIREFOX;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Parameter;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideDriver;
+
+import io.github.bonigarcia.seljup.AnnotationsReader;
+import io.github.bonigarcia.seljup.SelenideConfiguration;
+import io.github.bonigarcia.seljup.SelenideHandler;
+
+class SelenideHandlerTest {
+
+    SelenideHandler selenideHandler;
+
+    @BeforeEach
+    void setup() {
+        selenideHandler = new SelenideHandler(new AnnotationsReader());
+    }
+
+    @Test
+    void testSelenideApiIsResolved() {
+        assertThat(selenideHandler.isAvailable()).isTrue();
+        assertThat(selenideHandler.isSelenide(SelenideDriver.class)).isTrue();
+        assertThat(selenideHandler.isSelenide(Object.class)).isFalse();
+    }
+
+    @Test
+    void testConfigFromParameter() throws Exception {
+        Parameter parameter = getParameter();
+        assertThat(selenideHandler.useCustomSelenideConfig(parameter,
+                Optional.empty())).isTrue();
+
+        // Twice, since the method handles and the annotation are cached
+        for (int i = 0; i < 2; i++) {
+            SelenideConfig config = (SelenideConfig) selenideHandler
+                    .getSelenideConfig(Optional.empty(), parameter);
+            assertThat(config.browser()).isEqualTo(FIREFOX);
+            assertThat(config.headless()).isTrue();
+            assertThat(config.browserBinary()).isEmpty();
+        }
+    }
+
+    private Parameter getParameter() throws Exception {
+        return getClass().getDeclaredMethod("annotatedParameter",
+                SelenideDriver.class).getParameters()[0];
+    }
+
+    void annotatedParameter(
+            @SelenideConfiguration(browser = FIREFOX, headless = true) SelenideDriver driver) {
+        // Only used to read the annotation of its parameter
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * (C) Copyright 2026 Boni Garcia (https://bonigarcia.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.bonigarcia.seljup.test.template;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import io.github.bonigarcia.seljup.BrowserBroker;
+import io.github.bonigarcia.seljup.BrowserBuilder;
+import io.github.bonigarcia.seljup.SeleniumJupiter;
+import io.github.bonigarcia.seljup.config.Config;
+
+class TemplateBrokerTest {
+
+    @RegisterExtension
+    static SeleniumJupiter seleniumJupiter = new SeleniumJupiter();
+
+    static BrowserBroker browserBroker;
+
+    @BeforeAll
+    static void setup() throws Exception {
+        // Broker in any free port (usually, it runs in a separate process)
+        Config brokerConfig = new Config();
+        brokerConfig.setBrokerPort(0);
+        browserBroker = new BrowserBroker(brokerConfig);
+        browserBroker.start();
+
+        seleniumJupiter.getConfig().enableBroker();
+        seleniumJupiter.getConfig().setBrokerPort(browserBroker.getPort());
+        seleniumJupiter.addBrowsers(BrowserBuilder.chrome().build());
+    }
+
+    @AfterAll
+    static void teardown() {
+        browserBroker.close();
+    }
+
+    @TestTemplate
+    void templateTest(WebDriver driver) {
+        // A local browser would be a subclass (e.g., ChromeDriver)
+        assertThat(driver).isExactlyInstanceOf(RemoteWebDriver.class);
+        driver.get("https://bonigarcia.dev/selenium-webdriver-java/");
+        assertThat(driver.getTitle()).contains("Selenium WebDriver");
+    }
+
+}